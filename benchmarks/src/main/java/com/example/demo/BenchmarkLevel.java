@@ -0,0 +1,111 @@
+package com.example.demo;
+
+import java.util.*;
+
+import javafx.scene.Group;
+
+public class BenchmarkLevel extends LevelParent {
+
+	private static final String BACKGROUND_IMAGE_NAME = "background1.jpg";
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final int DESTROYED_ACTOR_INTERVAL = 10;
+	private final int enemyCount;
+	private final int projectileCount;
+	private final boolean respawn;
+	private final Random random;
+	private final ActiveActorDestructible[] actors;
+	private final double[] initialXPositions;
+	private final double[] initialYPositions;
+	private final double userXPosition;
+	private final double userYPosition;
+
+	public BenchmarkLevel(int enemyCount, int projectileCount, boolean respawn, long seed) {
+		super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, seed);
+		this.enemyCount = enemyCount;
+		this.projectileCount = projectileCount;
+		this.respawn = respawn;
+		this.random = new Random(seed);
+		this.actors = new ActiveActorDestructible[enemyCount + projectileCount];
+		this.initialXPositions = new double[actors.length];
+		this.initialYPositions = new double[actors.length];
+		this.userXPosition = getUser().getLayoutX();
+		this.userYPosition = getUser().getLayoutY();
+		createActors();
+		restore();
+		sizePools();
+	}
+
+	public void restore() {
+		removeAllActors();
+		getUser().reset(userXPosition, userYPosition);
+		addFriendlyUnit(getUser());
+		for (int i = 0; i < actors.length; i++) {
+			ActiveActorDestructible actor = actors[i];
+			actor.reset(initialXPositions[i], initialYPositions[i]);
+			if (i % DESTROYED_ACTOR_INTERVAL == 0) {
+				actor.destroy();
+			}
+			if (i < enemyCount) {
+				addEnemyUnit(actor);
+			} else if (actor instanceof UserProjectile) {
+				addUserProjectile(actor);
+			} else {
+				spawnEnemyProjectile(actor);
+			}
+		}
+	}
+
+	@Override
+	protected void spawnEnemyUnits() {
+		if (!respawn) {
+			return;
+		}
+		while (getCurrentNumberOfEnemies() < enemyCount) {
+			addEnemyUnit(EnemyPlane.obtain(randomX(), randomY()));
+		}
+		while (getUserProjectileCount() < projectileCount / 2) {
+			addUserProjectile(UserProjectile.obtain(randomX(), randomY()));
+		}
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	@Override
+	protected LevelView instantiateLevelView(Group root) {
+		return null;
+	}
+
+	private void createActors() {
+		for (int i = 0; i < actors.length; i++) {
+			initialXPositions[i] = randomX();
+			initialYPositions[i] = randomY();
+			if (i < enemyCount) {
+				actors[i] = new EnemyPlane(initialXPositions[i], initialYPositions[i]);
+			} else if ((i - enemyCount) % 2 == 0) {
+				actors[i] = new UserProjectile(initialXPositions[i], initialYPositions[i]);
+			} else {
+				actors[i] = new EnemyProjectile(initialXPositions[i], initialYPositions[i]);
+			}
+		}
+	}
+
+	private void sizePools() {
+		int capacity = enemyCount + projectileCount;
+		for (ActorPool<?> pool : ActorPool.getRegisteredPools()) {
+			pool.setCapacity(Math.max(pool.getCapacity(), capacity));
+		}
+	}
+
+	private double randomX() {
+		return random.nextDouble() * getScreenWidth();
+	}
+
+	private double randomY() {
+		return random.nextDouble() * getEnemyMaximumYPosition();
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import javafx.scene.Group;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletPatternBenchmark {
+
+	private static final long SEED = 2024L;
+	private static final double BULLET_SPEED = 5;
+	private static final double SPIRAL_DEGREES_PER_VOLLEY = 7;
+	private static final int POOL_CAPACITY = 16384;
+
+	// Bullets leave the screen after roughly 110 ticks, so 10/45/90 arms keep about 1k/5k/10k on screen.
+	@Param({ "10", "45", "90" })
+	private int arms;
+
+	@Param({ "false", "true" })
+	private boolean homing;
+
+	private PatternLevel level;
+	private BulletPattern pattern;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		PatternBullet.prewarm(POOL_CAPACITY);
+		pattern = homing ? BulletPattern.homing(arms, 360, BULLET_SPEED, 1, 20)
+				: BulletPattern.spiral(arms, BULLET_SPEED, SPIRAL_DEGREES_PER_VOLLEY, Integer.MAX_VALUE, 1);
+		level = new PatternLevel();
+		level.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeLevel() {
+		level.dispose();
+	}
+
+	@Benchmark
+	public void tick() {
+		if (!level.emitter.isActive()) {
+			level.emitter.start(pattern);
+		}
+		level.tick();
+	}
+
+	static class PatternLevel extends LevelParent {
+
+		private final Boss boss;
+		private final BulletEmitter emitter;
+
+		PatternLevel() {
+			super("background2.jpg", 750, 1300, Integer.MAX_VALUE, SEED);
+			boss = new Boss(getRandom(), Integer.MAX_VALUE, 0, 0, BossScript.parse("hover 1"));
+			emitter = boss.getBulletEmitter();
+			addEnemyUnit(boss);
+		}
+
+		@Override
+		protected void checkIfGameOver() {
+		}
+
+		@Override
+		protected void spawnEnemyUnits() {
+		}
+
+		@Override
+		protected LevelView instantiateLevelView(Group root) {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.example.demo;
+
+import java.util.concurrent.*;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.image.WritableImage;
+import org.openjdk.jmh.annotations.*;
+
+// Needs a display (or a virtual framebuffer): the JavaFX toolkit is started in the forked JVM.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+	private static final long SEED = 2024L;
+	private static final int RESTORE_INTERVAL = 100;
+
+	@Param({ "100", "1000", "10000" })
+	private int actorCount;
+
+	@Param({ ActorRenderer.NODES, ActorRenderer.CANVAS })
+	private String renderer;
+
+	private BenchmarkLevel level;
+	private Group root;
+	private ActorRenderer actorRenderer;
+	private WritableImage frame;
+	private int frameCount;
+
+	@Setup(Level.Trial)
+	public void createScene() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		try {
+			Platform.startup(started::countDown);
+		} catch (IllegalStateException e) {
+			started.countDown();
+		}
+		started.await();
+		level = new BenchmarkLevel(actorCount / 10, actorCount - actorCount / 10, false, SEED);
+		runOnFxThread(() -> {
+			root = new Group();
+			Group actorLayer = new Group();
+			root.getChildren().add(actorLayer);
+			actorRenderer = ActorRenderer.create(renderer, actorLayer, level.getScreenWidth(), level.getScreenHeight());
+			for (ActiveActorDestructible actor : level.getActiveActors()) {
+				actorRenderer.add(actor);
+			}
+			frame = new WritableImage((int) level.getScreenWidth(), (int) level.getScreenHeight());
+		});
+	}
+
+	@Setup(Level.Invocation)
+	public void advanceActors() {
+		if (++frameCount % RESTORE_INTERVAL == 0) {
+			level.restore();
+		}
+		level.runStage(TickStage.UPDATE_ACTORS);
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeLevel() {
+		level.dispose();
+	}
+
+	// A frame is the renderer's own work plus CSS, layout and rasterisation of the layer.
+	@Benchmark
+	public WritableImage renderFrame() throws Exception {
+		runOnFxThread(() -> {
+			actorRenderer.render(1);
+			root.snapshot(null, frame);
+		});
+		return frame;
+	}
+
+	private static void runOnFxThread(Runnable task) throws Exception {
+		FutureTask<Void> future = new FutureTask<>(task, null);
+		Platform.runLater(future);
+		future.get();
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickBenchmark {
+
+	private static final long SEED = 2024L;
+
+	@Param({ "10", "100", "1000", "10000" })
+	private int enemyCount;
+
+	@Param({ "10", "100", "1000", "10000" })
+	private int projectileCount;
+
+	@Param({ CollisionEngine.SPATIAL_HASH, CollisionEngine.BRUTE_FORCE })
+	private String collisionEngine;
+
+	@Param({ TickExecutor.SERIAL, TickExecutor.FORK_JOIN })
+	private String tickExecutor;
+
+	private BenchmarkLevel level;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		level = new BenchmarkLevel(enemyCount, projectileCount, true, SEED);
+		level.setCollisionEngine(CollisionEngine.create(collisionEngine));
+		level.setTickExecutor(
+				TickExecutor.create(tickExecutor, GameSettings.getTickThreads(), GameSettings.getTickChunkSize()));
+		level.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void disposeLevel() {
+		level.dispose();
+	}
+
+	@Benchmark
+	public void tick() {
+		level.tick();
+	}
+
+}
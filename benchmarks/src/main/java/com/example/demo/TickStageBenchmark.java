@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickStageBenchmark {
+
+	private static final long SEED = 2024L;
+
+	@Param({ "10", "100", "1000", "10000" })
+	private int enemyCount;
+
+	@Param({ "10", "100", "1000", "10000" })
+	private int projectileCount;
+
+	@Param({ CollisionEngine.SPATIAL_HASH, CollisionEngine.BRUTE_FORCE })
+	private String collisionEngine;
+
+	private BenchmarkLevel level;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		level = new BenchmarkLevel(enemyCount, projectileCount, false, SEED);
+		level.setCollisionEngine(CollisionEngine.create(collisionEngine));
+	}
+
+	@Setup(Level.Invocation)
+	public void restoreLevel() {
+		level.restore();
+	}
+
+	@Benchmark
+	public void updateActors() {
+		level.runStage(TickStage.UPDATE_ACTORS);
+	}
+
+	@Benchmark
+	public void generateEnemyFire() {
+		level.runStage(TickStage.ENEMY_FIRE);
+	}
+
+	@Benchmark
+	public void userProjectileCollisions() {
+		level.runStage(TickStage.USER_PROJECTILE_COLLISIONS);
+	}
+
+	@Benchmark
+	public void enemyProjectileCollisions() {
+		level.runStage(TickStage.ENEMY_PROJECTILE_COLLISIONS);
+	}
+
+	@Benchmark
+	public void planeCollisions() {
+		level.runStage(TickStage.PLANE_COLLISIONS);
+	}
+
+	@Benchmark
+	public void removeAllDestroyedActors() {
+		level.runStage(TickStage.REMOVAL);
+	}
+
+}
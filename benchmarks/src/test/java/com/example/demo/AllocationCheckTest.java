@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+class AllocationCheckTest {
+
+	private static final long SEED = 2024L;
+	private static final int WARMUP_TICKS = 50_000;
+	private static final int MEASURED_TICKS = 20_000;
+	private static final double MAX_BYTES_PER_TICK = 16;
+	private static final int FORK_JOIN_THREADS = 2;
+	private static final int FORK_JOIN_CHUNK_SIZE = 64;
+	private static final String FORK_JOIN_WORKER_PREFIX = "ForkJoinPool-";
+
+	@Test
+	void fewActorsTickWithoutAllocating() {
+		assertTickWithinBudget(10, 10, false);
+	}
+
+	@Test
+	void manyActorsTickWithoutAllocating() {
+		assertTickWithinBudget(100, 100, false);
+	}
+
+	@Test
+	void manyProjectilesTickWithoutAllocating() {
+		assertTickWithinBudget(100, 1000, false);
+	}
+
+	@Test
+	void forkJoinTickWithoutAllocating() {
+		assertTickWithinBudget(100, 1000, true);
+	}
+
+	// Sums the bytes allocated by the ticking thread and any pool workers, so JIT and GC activity elsewhere does not count.
+	private static void assertTickWithinBudget(int enemies, int projectiles, boolean forkJoin) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		BenchmarkLevel level = new BenchmarkLevel(enemies, projectiles, true, SEED);
+		if (forkJoin) {
+			level.setTickExecutor(new ForkJoinTickExecutor(FORK_JOIN_THREADS, FORK_JOIN_CHUNK_SIZE));
+		}
+		level.start();
+		try {
+			for (int i = 0; i < WARMUP_TICKS; i++) {
+				level.tick();
+			}
+			long[] threadIds = tickingThreadIds();
+			long allocatedBefore = sum(threads.getThreadAllocatedBytes(threadIds));
+			for (int i = 0; i < MEASURED_TICKS; i++) {
+				level.tick();
+			}
+			double bytesPerTick = (double) (sum(threads.getThreadAllocatedBytes(threadIds)) - allocatedBefore)
+					/ MEASURED_TICKS;
+			assertTrue(bytesPerTick <= MAX_BYTES_PER_TICK, String.format(
+					"enemies=%d projectiles=%d forkJoin=%b: %.2f bytes/tick, budget %.0f", enemies, projectiles,
+					forkJoin, bytesPerTick, MAX_BYTES_PER_TICK));
+		} finally {
+			level.dispose();
+		}
+	}
+
+	private static long[] tickingThreadIds() {
+		List<Long> ids = new ArrayList<>();
+		ids.add(Thread.currentThread().getId());
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith(FORK_JOIN_WORKER_PREFIX)) {
+				ids.add(thread.getId());
+			}
+		}
+		return ids.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private static long sum(long[] values) {
+		long total = 0;
+		for (long value : values) {
+			total += Math.max(value, 0);
+		}
+		return total;
+	}
+
+}
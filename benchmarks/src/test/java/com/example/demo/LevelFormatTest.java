@@ -0,0 +1,45 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class LevelFormatTest {
+
+	private static final String BOSS_LEVEL = "level Scripted\n"
+			+ "background background2.jpg\n"
+			+ "health 5\n"
+			+ "archetype boss boss 100 0.04 8\n";
+
+	@Test
+	void scriptWithUnknownPatternFailsAtLoad() {
+		IOException error = assertThrows(IOException.class,
+				() -> read(BOSS_LEVEL + "script boss strafe 10; pattern 9; loop\nwave 100\nspawn 0 boss 0.5\n"));
+		assertTrue(error.getMessage().contains("pattern 9"), error.getMessage());
+	}
+
+	@Test
+	void scriptWithKnownPatternsLoads() throws IOException {
+		try (LevelDefinition definition = read(BOSS_LEVEL + "script boss strafe 10; pattern 3; loop\n")) {
+			assertNotNull(definition.getArchetype(0).getScript());
+		}
+	}
+
+	@Test
+	void spawnPositionOutsideScreenFailsToLoad() throws IOException {
+		for (String position : new String[] { "7.5", "-1", "NaN" }) {
+			try (LevelDefinition definition = read(BOSS_LEVEL + "wave 0\nspawn 0 boss " + position + "\n")) {
+				IOException error = assertThrows(IOException.class, definition::nextWave);
+				assertTrue(error.getMessage().contains("between 0 and 1"), error.getMessage());
+			}
+		}
+	}
+
+	private static LevelDefinition read(String text) throws IOException {
+		return LevelFormat.readText(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "test.level");
+	}
+
+}
@@ -1,28 +1,200 @@
 package com.example.demo;
 
-import javafx.scene.image.*;
+public abstract class ActiveActor {
 
-public abstract class ActiveActor extends ImageView {
-	
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imageName;
+	private final double height;
+	private final double width;
+	private final CollisionMask collisionMask;
+	private double layoutX;
+	private double layoutY;
+	private double translateX;
+	private double translateY;
+	private double previousTranslateX;
+	private double previousTranslateY;
+	private double velocityX;
+	private double velocityY;
+	private ActorStore store;
+	private int slot;
 
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imageName = imageName;
+		this.height = imageHeight;
+		this.width = imageHeight * SpriteMetrics.getAspectRatio(imageName);
+		this.collisionMask = CollisionMask.forSprite(imageName, imageHeight);
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
 	}
 
 	public abstract void updatePosition();
 
+	public boolean isKinematic() {
+		return false;
+	}
+
+	public double getHomingTurnRate() {
+		return 0;
+	}
+
+	public int getHomingTicks() {
+		return 0;
+	}
+
+	protected void resetPosition(double xPosition, double yPosition) {
+		if (store != null) {
+			store.setLayout(slot, xPosition, yPosition);
+		}
+		this.layoutX = xPosition;
+		this.layoutY = yPosition;
+		setTranslateX(0);
+		setTranslateY(0);
+		savePreviousPosition();
+	}
+
+	public void savePreviousPosition() {
+		if (store != null) {
+			store.setPreviousTranslate(slot, store.getTranslateX(slot), store.getTranslateY(slot));
+		} else {
+			previousTranslateX = translateX;
+			previousTranslateY = translateY;
+		}
+	}
+
+	public double getInterpolatedTranslateX(double alpha) {
+		double previous = getPreviousTranslateX();
+		return previous + (getTranslateX() - previous) * alpha;
+	}
+
+	public double getInterpolatedTranslateY(double alpha) {
+		double previous = getPreviousTranslateY();
+		return previous + (getTranslateY() - previous) * alpha;
+	}
+
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		setTranslateX(getTranslateX() + horizontalMove);
 	}
 
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		setTranslateY(getTranslateY() + verticalMove);
+	}
+
+	public boolean intersects(ActiveActor other) {
+		return other.getMaxX() >= getMinX() && other.getMaxY() >= getMinY() && other.getMinX() <= getMaxX()
+				&& other.getMinY() <= getMaxY();
+	}
+
+	void attach(ActorStore store, int slot) {
+		this.store = store;
+		this.slot = slot;
+	}
+
+	void detach() {
+		if (store != null) {
+			translateX = store.getTranslateX(slot);
+			translateY = store.getTranslateY(slot);
+			previousTranslateX = store.getPreviousTranslateX(slot);
+			previousTranslateY = store.getPreviousTranslateY(slot);
+			velocityX = store.getVelocityX(slot);
+			velocityY = store.getVelocityY(slot);
+			store = null;
+		}
+	}
+
+	ActorStore getStore() {
+		return store;
+	}
+
+	int getSlot() {
+		return slot;
+	}
+
+	public String getImageName() {
+		return imageName;
+	}
+
+	public double getWidth() {
+		return width;
+	}
+
+	public double getHeight() {
+		return height;
+	}
+
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	public double getTranslateX() {
+		return store != null ? store.getTranslateX(slot) : translateX;
+	}
+
+	public double getTranslateY() {
+		return store != null ? store.getTranslateY(slot) : translateY;
+	}
+
+	public void setTranslateX(double translateX) {
+		if (store != null) {
+			store.setTranslateX(slot, translateX);
+		} else {
+			this.translateX = translateX;
+		}
+	}
+
+	public void setTranslateY(double translateY) {
+		if (store != null) {
+			store.setTranslateY(slot, translateY);
+		} else {
+			this.translateY = translateY;
+		}
+	}
+
+	double getPreviousTranslateX() {
+		return store != null ? store.getPreviousTranslateX(slot) : previousTranslateX;
+	}
+
+	double getPreviousTranslateY() {
+		return store != null ? store.getPreviousTranslateY(slot) : previousTranslateY;
+	}
+
+	public double getVelocityX() {
+		return store != null ? store.getVelocityX(slot) : velocityX;
+	}
+
+	public double getVelocityY() {
+		return store != null ? store.getVelocityY(slot) : velocityY;
+	}
+
+	protected void setVelocity(double velocityX, double velocityY) {
+		if (store != null) {
+			store.setVelocity(slot, velocityX, velocityY);
+		} else {
+			this.velocityX = velocityX;
+			this.velocityY = velocityY;
+		}
+	}
+
+	public double getMinX() {
+		return getLayoutX() + getTranslateX();
+	}
+
+	public double getMinY() {
+		return getLayoutY() + getTranslateY();
+	}
+
+	public double getMaxX() {
+		return getMinX() + width;
+	}
+
+	public double getMaxY() {
+		return getMinY() + height;
 	}
 
 }
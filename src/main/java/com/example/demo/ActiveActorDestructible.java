@@ -3,6 +3,9 @@ package com.example.demo;
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
 	private boolean isDestroyed;
+	private boolean isShielded;
+	private int health;
+	private ActorPool<?> owningPool;
 
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
@@ -22,12 +25,76 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 		setDestroyed(true);
 	}
 
+	public void recycle() {
+	}
+
+	// Set while the actor is out of a pool, so the pool can spot a second or foreign release.
+	ActorPool<?> getOwningPool() {
+		return owningPool;
+	}
+
+	void setOwningPool(ActorPool<?> owningPool) {
+		this.owningPool = owningPool;
+	}
+
+	protected void reset(double xPosition, double yPosition) {
+		resetPosition(xPosition, yPosition);
+		setDestroyed(false);
+		setShielded(false);
+	}
+
+	@Override
+	void detach() {
+		ActorStore store = getStore();
+		if (store != null) {
+			isDestroyed = store.isDestroyed(getSlot());
+			isShielded = store.isShielded(getSlot());
+			health = store.getHealth(getSlot());
+		}
+		super.detach();
+	}
+
 	protected void setDestroyed(boolean isDestroyed) {
-		this.isDestroyed = isDestroyed;
+		ActorStore store = getStore();
+		if (store != null) {
+			store.setDestroyed(getSlot(), isDestroyed);
+		} else {
+			this.isDestroyed = isDestroyed;
+		}
 	}
 
 	public boolean isDestroyed() {
-		return isDestroyed;
+		ActorStore store = getStore();
+		return store != null ? store.isDestroyed(getSlot()) : isDestroyed;
+	}
+
+	// Shielded actors still collide, but the collision response skips their takeDamage.
+	protected void setShielded(boolean isShielded) {
+		ActorStore store = getStore();
+		if (store != null) {
+			store.setShielded(getSlot(), isShielded);
+		} else {
+			this.isShielded = isShielded;
+		}
+	}
+
+	public boolean isShielded() {
+		ActorStore store = getStore();
+		return store != null ? store.isShielded(getSlot()) : isShielded;
+	}
+
+	public int getHealth() {
+		ActorStore store = getStore();
+		return store != null ? store.getHealth(getSlot()) : health;
+	}
+
+	protected void setHealth(int health) {
+		ActorStore store = getStore();
+		if (store != null) {
+			store.setHealth(getSlot(), health);
+		} else {
+			this.health = health;
+		}
 	}
 	
 }
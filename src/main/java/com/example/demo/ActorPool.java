@@ -0,0 +1,119 @@
+package com.example.demo;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	private static final List<ActorPool<?>> registeredPools = new CopyOnWriteArrayList<>();
+	private final String name;
+	private int capacity;
+	private final Supplier<T> factory;
+	private final Deque<T> idleActors;
+	private int hits;
+	private int misses;
+	private int discarded;
+	private int rejectedReleases;
+	private int actorsInUse;
+	private int highWaterMark;
+
+	public ActorPool(String name, int capacity, Supplier<T> factory) {
+		this.name = name;
+		this.capacity = capacity;
+		this.factory = factory;
+		this.idleActors = new ArrayDeque<>(capacity);
+		registeredPools.add(this);
+	}
+
+	public T obtain() {
+		T actor = idleActors.pollLast();
+		if (actor == null) {
+			misses++;
+			actor = factory.get();
+		} else {
+			hits++;
+		}
+		actor.setOwningPool(this);
+		actorsInUse++;
+		highWaterMark = Math.max(highWaterMark, actorsInUse);
+		return actor;
+	}
+
+	// Releasing an actor that is already idle, or that came from another pool, is ignored.
+	public void release(T actor) {
+		if (actor.getOwningPool() != this) {
+			rejectedReleases++;
+			return;
+		}
+		actor.setOwningPool(null);
+		actorsInUse--;
+		if (idleActors.size() < capacity) {
+			idleActors.addLast(actor);
+		} else {
+			discarded++;
+		}
+	}
+
+	// Builds idle actors up front so the first spawns do not construct or decode anything.
+	public void prewarm(int count) {
+		int target = Math.min(count, capacity);
+		while (idleActors.size() < target) {
+			idleActors.addLast(factory.get());
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+		while (idleActors.size() > capacity) {
+			idleActors.pollLast();
+		}
+	}
+
+	public int getIdleCount() {
+		return idleActors.size();
+	}
+
+	public int getHits() {
+		return hits;
+	}
+
+	public int getMisses() {
+		return misses;
+	}
+
+	public int getDiscarded() {
+		return discarded;
+	}
+
+	public int getRejectedReleases() {
+		return rejectedReleases;
+	}
+
+	public int getActorsInUse() {
+		return actorsInUse;
+	}
+
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[capacity=%d, idle=%d, inUse=%d, highWaterMark=%d, hits=%d, misses=%d, discarded=%d, rejected=%d]",
+				name, capacity, getIdleCount(), actorsInUse, highWaterMark, hits, misses, discarded, rejectedReleases);
+	}
+
+	public static List<ActorPool<?>> getRegisteredPools() {
+		return Collections.unmodifiableList(registeredPools);
+	}
+
+}
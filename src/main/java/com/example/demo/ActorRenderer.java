@@ -0,0 +1,29 @@
+package com.example.demo;
+
+import javafx.scene.Group;
+
+public interface ActorRenderer {
+
+	String NODES = "nodes";
+	String CANVAS = "canvas";
+
+	void add(ActiveActor actor);
+
+	void remove(ActiveActor actor);
+
+	void render(double alpha);
+
+	int getActorCount();
+
+	static ActorRenderer create(String name, Group layer, double width, double height) {
+		switch (name) {
+			case NODES:
+				return new NodeRenderer(layer);
+			case CANVAS:
+				return new CanvasRenderer(layer, width, height);
+			default:
+				throw new IllegalArgumentException("Unknown renderer: " + name);
+		}
+	}
+
+}
@@ -0,0 +1,405 @@
+package com.example.demo;
+
+import java.util.*;
+
+public class ActorStore {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final int FLAG_DESTROYED = 1;
+	private static final int FLAG_KINEMATIC = 1 << 1;
+	private static final int FLAG_SHIELDED = 1 << 2;
+	private static final boolean PIXEL_MASKS = GameSettings.isCollisionMaskEnabled();
+	private ActiveActorDestructible[] actors;
+	private ActiveActorDestructible[] removedActors;
+	private double[] layoutX;
+	private double[] layoutY;
+	private double[] translateX;
+	private double[] translateY;
+	private double[] previousTranslateX;
+	private double[] previousTranslateY;
+	private double[] velocityX;
+	private double[] velocityY;
+	private double[] boundsMinX;
+	private double[] boundsMinY;
+	private double[] boundsMaxX;
+	private double[] boundsMaxY;
+	private CollisionMask[] masks;
+	private double[] turnCosines;
+	private double[] turnSines;
+	private int[] homingTicks;
+	private int[] health;
+	private int[] flags;
+	private int size;
+	private int removedCount;
+	private int homingCount;
+	private double steeringTargetX;
+	private double steeringTargetY;
+	private final TickExecutor.ChunkTask integrateTask = (chunk, from, to) -> integrate(from, to);
+	private final TickExecutor.ChunkTask steerTask = (chunk, from, to) -> steer(from, to);
+
+	public ActorStore() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public ActorStore(int capacity) {
+		allocate(Math.max(capacity, 1));
+	}
+
+	public void add(ActiveActorDestructible actor) {
+		if (size == actors.length) {
+			grow(size * 2);
+		}
+		int slot = size++;
+		actors[slot] = actor;
+		layoutX[slot] = actor.getLayoutX();
+		layoutY[slot] = actor.getLayoutY();
+		translateX[slot] = actor.getTranslateX();
+		translateY[slot] = actor.getTranslateY();
+		previousTranslateX[slot] = actor.getPreviousTranslateX();
+		previousTranslateY[slot] = actor.getPreviousTranslateY();
+		velocityX[slot] = actor.getVelocityX();
+		velocityY[slot] = actor.getVelocityY();
+		CollisionMask mask = actor.getCollisionMask();
+		masks[slot] = mask;
+		boundsMinX[slot] = mask.getMinX();
+		boundsMinY[slot] = mask.getMinY();
+		boundsMaxX[slot] = mask.getMaxX();
+		boundsMaxY[slot] = mask.getMaxY();
+		double turnRate = actor.getHomingTurnRate();
+		turnCosines[slot] = Math.cos(turnRate);
+		turnSines[slot] = Math.sin(turnRate);
+		homingTicks[slot] = actor.getHomingTicks();
+		if (turnRate != 0) {
+			homingCount++;
+		}
+		health[slot] = actor.getHealth();
+		flags[slot] = (actor.isDestroyed() ? FLAG_DESTROYED : 0) | (actor.isKinematic() ? FLAG_KINEMATIC : 0)
+				| (actor.isShielded() ? FLAG_SHIELDED : 0);
+		actor.attach(this, slot);
+	}
+
+	public ActiveActorDestructible get(int slot) {
+		return actors[slot];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void savePreviousPositions() {
+		System.arraycopy(translateX, 0, previousTranslateX, 0, size);
+		System.arraycopy(translateY, 0, previousTranslateY, 0, size);
+	}
+
+	// Kinematic actors are integrated in chunks; only actors with their own behaviour get a virtual call.
+	public void update(TickExecutor tickExecutor) {
+		tickExecutor.forEachChunk(size, integrateTask);
+		for (int i = 0; i < size; i++) {
+			if ((flags[i] & FLAG_KINEMATIC) == 0) {
+				actors[i].updateActor();
+			}
+		}
+	}
+
+	private void integrate(int from, int to) {
+		for (int i = from; i < to; i++) {
+			if ((flags[i] & FLAG_KINEMATIC) != 0) {
+				translateX[i] += velocityX[i];
+				translateY[i] += velocityY[i];
+			}
+		}
+	}
+
+	// Turns homing actors toward the target by at most their turn rate, keeping their speed.
+	public void steer(TickExecutor tickExecutor, double targetX, double targetY) {
+		if (homingCount == 0) {
+			return;
+		}
+		steeringTargetX = targetX;
+		steeringTargetY = targetY;
+		tickExecutor.forEachChunk(size, steerTask);
+	}
+
+	// Rotates the velocity by the precomputed turn step instead of going through angles, so no trigonometry runs per tick.
+	private void steer(int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (turnSines[i] == 0 || homingTicks[i] == 0) {
+				continue;
+			}
+			homingTicks[i]--;
+			double toTargetX = steeringTargetX - (layoutX[i] + translateX[i] + (boundsMinX[i] + boundsMaxX[i]) / 2);
+			double toTargetY = steeringTargetY - (layoutY[i] + translateY[i] + (boundsMinY[i] + boundsMaxY[i]) / 2);
+			double distance = Math.sqrt(toTargetX * toTargetX + toTargetY * toTargetY);
+			double speed = Math.sqrt(velocityX[i] * velocityX[i] + velocityY[i] * velocityY[i]);
+			if (distance == 0 || speed == 0) {
+				continue;
+			}
+			double cosine = (velocityX[i] * toTargetX + velocityY[i] * toTargetY) / (speed * distance);
+			if (cosine >= turnCosines[i]) {
+				velocityX[i] = toTargetX / distance * speed;
+				velocityY[i] = toTargetY / distance * speed;
+			} else {
+				double sine = velocityX[i] * toTargetY - velocityY[i] * toTargetX >= 0 ? turnSines[i] : -turnSines[i];
+				double x = velocityX[i];
+				velocityX[i] = x * turnCosines[i] - velocityY[i] * sine;
+				velocityY[i] = x * sine + velocityY[i] * turnCosines[i];
+			}
+		}
+	}
+
+	public boolean intersects(int slot, ActorStore other, int otherSlot) {
+		return other.getMaxX(otherSlot) >= getMinX(slot) && other.getMaxY(otherSlot) >= getMinY(slot)
+				&& other.getMinX(otherSlot) <= getMaxX(slot) && other.getMinY(otherSlot) <= getMaxY(slot)
+				&& masksOverlap(slot, other, otherSlot);
+	}
+
+	// Narrow phase for pairs whose tight bounds already overlap; masks are shared and read-only.
+	public boolean masksOverlap(int slot, ActorStore other, int otherSlot) {
+		if (!PIXEL_MASKS) {
+			return true;
+		}
+		int offsetX = (int) Math.round(other.getOriginX(otherSlot) - getOriginX(slot));
+		int offsetY = (int) Math.round(other.getOriginY(otherSlot) - getOriginY(slot));
+		return masks[slot].overlaps(other.masks[otherSlot], offsetX, offsetY);
+	}
+
+	// Collision response: a shielded actor absorbs the hit without taking damage.
+	public void damage(int slot) {
+		if ((flags[slot] & FLAG_SHIELDED) == 0) {
+			actors[slot].takeDamage();
+		}
+	}
+
+	public int removeDestroyed() {
+		removedCount = 0;
+		int survivors = 0;
+		for (int i = 0; i < size; i++) {
+			if ((flags[i] & FLAG_DESTROYED) != 0) {
+				if (turnSines[i] != 0) {
+					homingCount--;
+				}
+				actors[i].detach();
+				removedActors[removedCount++] = actors[i];
+			} else {
+				if (survivors != i) {
+					move(i, survivors);
+				}
+				survivors++;
+			}
+		}
+		Arrays.fill(actors, survivors, size, null);
+		size = survivors;
+		return removedCount;
+	}
+
+	public ActiveActorDestructible getRemoved(int index) {
+		return removedActors[index];
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			actors[i].detach();
+			actors[i] = null;
+		}
+		size = 0;
+		homingCount = 0;
+		Arrays.fill(removedActors, 0, removedCount, null);
+		removedCount = 0;
+	}
+
+	public long checksum(long checksum) {
+		for (int i = 0; i < size; i++) {
+			checksum = 31 * checksum + Double.doubleToLongBits(layoutX[i]);
+			checksum = 31 * checksum + Double.doubleToLongBits(layoutY[i]);
+			checksum = 31 * checksum + Double.doubleToLongBits(translateX[i]);
+			checksum = 31 * checksum + Double.doubleToLongBits(translateY[i]);
+			checksum = 31 * checksum + health[i];
+			checksum = 31 * checksum + flags[i];
+		}
+		return 31 * checksum + size;
+	}
+
+	public void addTo(Collection<ActiveActorDestructible> collection) {
+		for (int i = 0; i < size; i++) {
+			collection.add(actors[i]);
+		}
+	}
+
+	public double getLayoutX(int slot) {
+		return layoutX[slot];
+	}
+
+	public double getLayoutY(int slot) {
+		return layoutY[slot];
+	}
+
+	public double getTranslateX(int slot) {
+		return translateX[slot];
+	}
+
+	public double getTranslateY(int slot) {
+		return translateY[slot];
+	}
+
+	public double getPreviousTranslateX(int slot) {
+		return previousTranslateX[slot];
+	}
+
+	public double getPreviousTranslateY(int slot) {
+		return previousTranslateY[slot];
+	}
+
+	public double getVelocityX(int slot) {
+		return velocityX[slot];
+	}
+
+	public double getVelocityY(int slot) {
+		return velocityY[slot];
+	}
+
+	public int getHealth(int slot) {
+		return health[slot];
+	}
+
+	public boolean isDestroyed(int slot) {
+		return (flags[slot] & FLAG_DESTROYED) != 0;
+	}
+
+	public boolean isShielded(int slot) {
+		return (flags[slot] & FLAG_SHIELDED) != 0;
+	}
+
+	// Bounds are the sprite's opaque pixels, not its full image rectangle.
+	public double getMinX(int slot) {
+		return layoutX[slot] + translateX[slot] + boundsMinX[slot];
+	}
+
+	public double getMinY(int slot) {
+		return layoutY[slot] + translateY[slot] + boundsMinY[slot];
+	}
+
+	public double getMaxX(int slot) {
+		return layoutX[slot] + translateX[slot] + boundsMaxX[slot];
+	}
+
+	public double getMaxY(int slot) {
+		return layoutY[slot] + translateY[slot] + boundsMaxY[slot];
+	}
+
+	private double getOriginX(int slot) {
+		return layoutX[slot] + translateX[slot];
+	}
+
+	private double getOriginY(int slot) {
+		return layoutY[slot] + translateY[slot];
+	}
+
+	void setLayout(int slot, double x, double y) {
+		layoutX[slot] = x;
+		layoutY[slot] = y;
+	}
+
+	void setTranslateX(int slot, double value) {
+		translateX[slot] = value;
+	}
+
+	void setTranslateY(int slot, double value) {
+		translateY[slot] = value;
+	}
+
+	void setPreviousTranslate(int slot, double x, double y) {
+		previousTranslateX[slot] = x;
+		previousTranslateY[slot] = y;
+	}
+
+	void setVelocity(int slot, double x, double y) {
+		velocityX[slot] = x;
+		velocityY[slot] = y;
+	}
+
+	void setHealth(int slot, int value) {
+		health[slot] = value;
+	}
+
+	void setDestroyed(int slot, boolean destroyed) {
+		flags[slot] = destroyed ? flags[slot] | FLAG_DESTROYED : flags[slot] & ~FLAG_DESTROYED;
+	}
+
+	void setShielded(int slot, boolean shielded) {
+		flags[slot] = shielded ? flags[slot] | FLAG_SHIELDED : flags[slot] & ~FLAG_SHIELDED;
+	}
+
+	private void move(int from, int to) {
+		actors[to] = actors[from];
+		layoutX[to] = layoutX[from];
+		layoutY[to] = layoutY[from];
+		translateX[to] = translateX[from];
+		translateY[to] = translateY[from];
+		previousTranslateX[to] = previousTranslateX[from];
+		previousTranslateY[to] = previousTranslateY[from];
+		velocityX[to] = velocityX[from];
+		velocityY[to] = velocityY[from];
+		boundsMinX[to] = boundsMinX[from];
+		boundsMinY[to] = boundsMinY[from];
+		boundsMaxX[to] = boundsMaxX[from];
+		boundsMaxY[to] = boundsMaxY[from];
+		masks[to] = masks[from];
+		turnCosines[to] = turnCosines[from];
+		turnSines[to] = turnSines[from];
+		homingTicks[to] = homingTicks[from];
+		health[to] = health[from];
+		flags[to] = flags[from];
+		actors[to].attach(this, to);
+	}
+
+	private void allocate(int capacity) {
+		actors = new ActiveActorDestructible[capacity];
+		removedActors = new ActiveActorDestructible[capacity];
+		layoutX = new double[capacity];
+		layoutY = new double[capacity];
+		translateX = new double[capacity];
+		translateY = new double[capacity];
+		previousTranslateX = new double[capacity];
+		previousTranslateY = new double[capacity];
+		velocityX = new double[capacity];
+		velocityY = new double[capacity];
+		boundsMinX = new double[capacity];
+		boundsMinY = new double[capacity];
+		boundsMaxX = new double[capacity];
+		boundsMaxY = new double[capacity];
+		masks = new CollisionMask[capacity];
+		turnCosines = new double[capacity];
+		turnSines = new double[capacity];
+		homingTicks = new int[capacity];
+		health = new int[capacity];
+		flags = new int[capacity];
+	}
+
+	private void grow(int capacity) {
+		actors = Arrays.copyOf(actors, capacity);
+		removedActors = Arrays.copyOf(removedActors, capacity);
+		layoutX = Arrays.copyOf(layoutX, capacity);
+		layoutY = Arrays.copyOf(layoutY, capacity);
+		translateX = Arrays.copyOf(translateX, capacity);
+		translateY = Arrays.copyOf(translateY, capacity);
+		previousTranslateX = Arrays.copyOf(previousTranslateX, capacity);
+		previousTranslateY = Arrays.copyOf(previousTranslateY, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		boundsMinX = Arrays.copyOf(boundsMinX, capacity);
+		boundsMinY = Arrays.copyOf(boundsMinY, capacity);
+		boundsMaxX = Arrays.copyOf(boundsMaxX, capacity);
+		boundsMaxY = Arrays.copyOf(boundsMaxY, capacity);
+		masks = Arrays.copyOf(masks, capacity);
+		turnCosines = Arrays.copyOf(turnCosines, capacity);
+		turnSines = Arrays.copyOf(turnSines, capacity);
+		homingTicks = Arrays.copyOf(homingTicks, capacity);
+		health = Arrays.copyOf(health, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+	}
+
+}
@@ -1,47 +1,77 @@
 package com.example.demo;
 
-import java.util.*;
-
 public class Boss extends FighterPlane {
 
 	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
+	private static final double PROJECTILE_X_POSITION_OFFSET = -50.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 	private static final double BOSS_FIRE_RATE = .04;
-	private static final double BOSS_SHIELD_PROBABILITY = .002;
 	private static final int IMAGE_HEIGHT = 300;
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 100;
-	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-	private static final int ZERO = 0;
 	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
 	private static final int Y_POSITION_UPPER_BOUND = -100;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
-	private static final int MAX_FRAMES_WITH_SHIELD = 500;
-	private final List<Integer> movePattern;
-	private boolean isShielded;
-	private int consecutiveMovesInSameDirection;
-	private int indexOfCurrentMove;
-	private int framesWithShieldActivated;
-
-	public Boss() {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		movePattern = new ArrayList<>();
-		consecutiveMovesInSameDirection = 0;
-		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
-		isShielded = false;
-		initializeMovePattern();
+	private static final int MAX_CHARGE_DISTANCE = 600;
+	private static final double BULLET_ORIGIN_X_OFFSET = 40.0;
+	private static final BulletPattern[] BULLET_PATTERNS = {
+			BulletPattern.aimed(5, 40, 9, 3, 4),
+			BulletPattern.radial(24, 6),
+			BulletPattern.spiral(4, 7, 15, 12, 2),
+			BulletPattern.homing(3, 60, 6, 4, 40) };
+	private static final BossScript DEFAULT_SCRIPT = BossScript.parse(
+			"strafe 80; pattern 0; strafe 60; pattern 1; shield 100; strafe 100; hover 10; charge 15 12; pattern 2;"
+					+ "hover 10; charge 15 -12; strafe 60; pattern 3; strafe 80; loop");
+	private final double fireRate;
+	private final BulletEmitter bulletEmitter;
+	private final BossScript script;
+	private final int[] moves;
+	private final int moveOffset;
+	private int instruction;
+	private int phase;
+	private int phaseTicksLeft;
+	private int phaseSpeed;
+	private int strafeTicks;
+	private int shieldTicksLeft;
+
+	public Boss(RandomService random) {
+		this(random, HEALTH, BOSS_FIRE_RATE, VERTICAL_VELOCITY);
+	}
+
+	public Boss(RandomService random, int health, double fireRate, int verticalVelocity) {
+		this(random, health, fireRate, verticalVelocity, DEFAULT_SCRIPT);
+	}
+
+	// Bosses of one run share the seed's move sequence and differ only by where in it they start.
+	public Boss(RandomService random, int health, double fireRate, int verticalVelocity, BossScript script) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, health);
+		checkScript(script);
+		this.fireRate = fireRate;
+		this.bulletEmitter = new BulletEmitter(this, BULLET_ORIGIN_X_OFFSET, PROJECTILE_Y_POSITION_OFFSET);
+		this.script = script;
+		this.moves = BossMoves.forSeed(random, verticalVelocity);
+		this.moveOffset = random.nextInt(RandomStream.BOSS_MOVEMENT, moves.length);
+	}
+
+	// Level loading calls this too, so a script naming a missing pattern fails before the level starts.
+	public static void checkScript(BossScript script) {
+		if (script.getMaxPatternIndex() >= BULLET_PATTERNS.length) {
+			throw new IllegalArgumentException("Boss has no bullet pattern " + script.getMaxPatternIndex());
+		}
 	}
 
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
-		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+		if (phaseTicksLeft == 0) {
+			nextPhase();
+		}
+		phaseTicksLeft--;
+		if (phase == BossScript.STRAFE) {
+			strafe();
+		} else if (phase == BossScript.CHARGE) {
+			charge();
 		}
 	}
 	
@@ -52,69 +82,95 @@ public class Boss extends FighterPlane {
 	}
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+	public boolean firesInCurrentFrame(double roll) {
+		return !bulletEmitter.isActive() && roll < fireRate;
 	}
-	
+
 	@Override
-	public void takeDamage() {
-		if (!isShielded) {
-			super.takeDamage();
-		}
+	public ActiveActorDestructible createProjectile() {
+		return BossProjectile.obtain(getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET), getProjectileInitialPosition());
 	}
 
-	private void initializeMovePattern() {
-		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
-		}
-		Collections.shuffle(movePattern);
+	@Override
+	public BulletEmitter getBulletEmitter() {
+		return bulletEmitter;
 	}
 
-	private void updateShield() {
-		if (isShielded) framesWithShieldActivated++;
-		else if (shieldShouldBeActivated()) activateShield();	
-		if (shieldExhausted()) deactivateShield();
-	}
-
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
-		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
-			consecutiveMovesInSameDirection = 0;
-			indexOfCurrentMove++;
-		}
-		if (indexOfCurrentMove == movePattern.size()) {
-			indexOfCurrentMove = 0;
+	public void setStartPosition(double yFraction) {
+		resetPosition(getLayoutX(), Y_POSITION_UPPER_BOUND + yFraction * (Y_POSITION_LOWER_BOUND - Y_POSITION_UPPER_BOUND));
+	}
+
+	public BossScript getScript() {
+		return script;
+	}
+
+	// Runs instant instructions until one that takes ticks; parsing guarantees every loop contains one.
+	private void nextPhase() {
+		while (phaseTicksLeft == 0) {
+			if (instruction == script.length()) {
+				phase = BossScript.HOVER;
+				phaseTicksLeft = Integer.MAX_VALUE;
+				return;
+			}
+			int operand = script.getOperand(instruction);
+			switch (script.getOpcode(instruction)) {
+				case BossScript.HOVER:
+				case BossScript.STRAFE:
+				case BossScript.CHARGE:
+					phase = script.getOpcode(instruction);
+					phaseTicksLeft = operand;
+					phaseSpeed = script.getSecondOperand(instruction);
+					break;
+				case BossScript.SHIELD:
+					activateShield(operand);
+					break;
+				case BossScript.PATTERN:
+					bulletEmitter.start(BULLET_PATTERNS[operand]);
+					break;
+				case BossScript.LOOP:
+					instruction = -1;
+					break;
+			}
+			instruction++;
 		}
-		return currentMove;
 	}
 
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+	private void strafe() {
+		double initialTranslateY = getTranslateY();
+		moveVertically(moves[(moveOffset + strafeTicks++ / MAX_FRAMES_WITH_SAME_MOVE) % moves.length]);
+		double currentPosition = getLayoutY() + getTranslateY();
+		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
+			setTranslateY(initialTranslateY);
+		}
 	}
 
-	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+	// Positive speeds charge toward the player, negative ones pull back; the boss never leaves its lane.
+	private void charge() {
+		double translateX = getTranslateX() - phaseSpeed;
+		setTranslateX(Math.max(-MAX_CHARGE_DISTANCE, Math.min(0, translateX)));
 	}
 
-	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+	private void updateShield() {
+		if (isShielded() && --shieldTicksLeft == 0) {
+			deactivateShield();
+		}
 	}
 
-	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+	private double getProjectileInitialPosition() {
+		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
-	private void activateShield() {
-		isShielded = true;
+	private void activateShield(int ticks) {
+		shieldTicksLeft = Math.max(shieldTicksLeft, ticks);
+		if (!isShielded()) {
+			setShielded(true);
+			getPlaneListener().shieldChanged(this, true);
+		}
 	}
 
 	private void deactivateShield() {
-		isShielded = false;
-		framesWithShieldActivated = 0;
+		setShielded(false);
+		getPlaneListener().shieldChanged(this, false);
 	}
 
 }
@@ -0,0 +1,51 @@
+package com.example.demo;
+
+import java.util.*;
+
+public final class BossMoves {
+
+	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
+	private static final int SEQUENCE_LENGTH = 1024;
+	private static final int CACHE_SIZE = 16;
+	private static final Map<String, int[]> sequences = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private BossMoves() {
+	}
+
+	// One vertical move per block of frames, generated once per seed and shared by every boss in that run.
+	public static synchronized int[] forSeed(RandomService random, int verticalVelocity) {
+		return sequences.computeIfAbsent(random.getSeed() + "@" + verticalVelocity,
+				key -> generate(random.newGenerator(RandomStream.BOSS_MOVEMENT), verticalVelocity));
+	}
+
+	public static int length() {
+		return SEQUENCE_LENGTH;
+	}
+
+	// Same walk as the original pattern: reshuffle the up/down/hold deck before every block and step to the next card.
+	private static int[] generate(SplittableRandom random, int verticalVelocity) {
+		int[] deck = new int[MOVE_FREQUENCY_PER_CYCLE * 3];
+		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
+			deck[3 * i] = verticalVelocity;
+			deck[3 * i + 1] = -verticalVelocity;
+			deck[3 * i + 2] = 0;
+		}
+		int[] moves = new int[SEQUENCE_LENGTH];
+		for (int block = 0; block < SEQUENCE_LENGTH; block++) {
+			for (int i = deck.length - 1; i > 0; i--) {
+				int j = random.nextInt(i + 1);
+				int move = deck[i];
+				deck[i] = deck[j];
+				deck[j] = move;
+			}
+			moves[block] = deck[block % deck.length];
+		}
+		return moves;
+	}
+
+}
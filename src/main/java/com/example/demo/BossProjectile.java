@@ -6,19 +6,43 @@ public class BossProjectile extends Projectile {
 	private static final int IMAGE_HEIGHT = 75;
 	private static final int HORIZONTAL_VELOCITY = -15;
 	private static final int INITIAL_X_POSITION = 950;
+	private static final int POOL_CAPACITY = 32;
+	private static final ActorPool<BossProjectile> POOL = new ActorPool<>("BossProjectile", POOL_CAPACITY,
+			() -> new BossProjectile(0));
 
 	public BossProjectile(double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	public static BossProjectile obtain(double initialYPos) {
+		return obtain(INITIAL_X_POSITION, initialYPos);
+	}
+
+	public static BossProjectile obtain(double initialXPos, double initialYPos) {
+		BossProjectile projectile = POOL.obtain();
+		projectile.reset(initialXPos, initialYPos);
+		return projectile;
 	}
 
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveHorizontally(getVelocityX());
+	}
+
+	@Override
+	public boolean isKinematic() {
+		return true;
 	}
 	
 	@Override
 	public void updateActor() {
 		updatePosition();
 	}
+
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
 	
 }
@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import java.util.*;
+
+public final class BossScript {
+
+	public static final int HOVER = 0;
+	public static final int STRAFE = 1;
+	public static final int CHARGE = 2;
+	public static final int SHIELD = 3;
+	public static final int PATTERN = 4;
+	public static final int LOOP = 5;
+	private static final String[] MNEMONICS = { "hover", "strafe", "charge", "shield", "pattern", "loop" };
+	private static final int[] OPERAND_COUNTS = { 1, 1, 2, 1, 1, 0 };
+	private static final int INSTRUCTION_SIZE = 3;
+	private final String source;
+	private final int[] code;
+	private final int length;
+	private final int maxPatternIndex;
+
+	private BossScript(String source, int[] code, int length, int maxPatternIndex) {
+		this.source = source;
+		this.code = code;
+		this.length = length;
+		this.maxPatternIndex = maxPatternIndex;
+	}
+
+	// Instructions are separated by ';' or new lines, e.g. "strafe 60; shield 40; charge 12 10; loop".
+	public static BossScript parse(String source) {
+		int[] code = new int[0];
+		int length = 0;
+		int maxPatternIndex = -1;
+		boolean blocks = false;
+		for (String instruction : source.split("[;\\n]")) {
+			int comment = instruction.indexOf('#');
+			String[] tokens = (comment >= 0 ? instruction.substring(0, comment) : instruction).trim().split("\\s+");
+			if (tokens[0].isEmpty()) {
+				continue;
+			}
+			int opcode = Arrays.asList(MNEMONICS).indexOf(tokens[0].toLowerCase(Locale.ROOT));
+			if (opcode < 0) {
+				throw new IllegalArgumentException("Unknown boss instruction '" + tokens[0] + "'");
+			}
+			if (tokens.length != OPERAND_COUNTS[opcode] + 1) {
+				throw new IllegalArgumentException("'" + tokens[0] + "' takes " + OPERAND_COUNTS[opcode] + " operand(s)");
+			}
+			code = Arrays.copyOf(code, (length + 1) * INSTRUCTION_SIZE);
+			int offset = length++ * INSTRUCTION_SIZE;
+			code[offset] = opcode;
+			for (int i = 1; i < tokens.length; i++) {
+				try {
+					code[offset + i] = Integer.parseInt(tokens[i]);
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Expected an integer, found '" + tokens[i] + "'");
+				}
+			}
+			if (opcode <= CHARGE || opcode == SHIELD) {
+				if (code[offset + 1] <= 0) {
+					throw new IllegalArgumentException("'" + tokens[0] + "' needs a positive number of ticks");
+				}
+				blocks |= opcode != SHIELD;
+			} else if (opcode == PATTERN) {
+				if (code[offset + 1] < 0) {
+					throw new IllegalArgumentException("Pattern indices start at 0");
+				}
+				maxPatternIndex = Math.max(maxPatternIndex, code[offset + 1]);
+			} else if (opcode == LOOP && !blocks) {
+				throw new IllegalArgumentException("'loop' needs a hover, strafe or charge before it");
+			}
+		}
+		return new BossScript(source, code, length, maxPatternIndex);
+	}
+
+	public int length() {
+		return length;
+	}
+
+	public int getOpcode(int instruction) {
+		return code[instruction * INSTRUCTION_SIZE];
+	}
+
+	public int getOperand(int instruction) {
+		return code[instruction * INSTRUCTION_SIZE + 1];
+	}
+
+	public int getSecondOperand(int instruction) {
+		return code[instruction * INSTRUCTION_SIZE + 2];
+	}
+
+	public int getMaxPatternIndex() {
+		return maxPatternIndex;
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.demo;
+
+public class BruteForceCollisionEngine implements CollisionEngine {
+
+	@Override
+	public String getName() {
+		return BRUTE_FORCE;
+	}
+
+	@Override
+	public int handleCollisions(ActorStore actors1, ActorStore actors2) {
+		int collisions = 0;
+		for (int i = 0; i < actors2.size(); i++) {
+			for (int j = 0; j < actors1.size(); j++) {
+				if (actors2.intersects(i, actors1, j)) {
+					actors2.damage(i);
+					actors1.damage(j);
+					collisions++;
+				}
+			}
+		}
+		return collisions;
+	}
+
+}
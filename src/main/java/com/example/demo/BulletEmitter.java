@@ -0,0 +1,71 @@
+package com.example.demo;
+
+public class BulletEmitter {
+
+	public interface BulletSink {
+
+		void spawnBullet(double x, double y, double velocityX, double velocityY, double turnRate, int homingTicks);
+
+	}
+
+	private final ActiveActor owner;
+	private final double originXOffset;
+	private final double originYOffset;
+	private BulletPattern pattern;
+	private int volleysFired;
+	private int ticksUntilNextVolley;
+
+	public BulletEmitter(ActiveActor owner, double originXOffset, double originYOffset) {
+		this.owner = owner;
+		this.originXOffset = originXOffset;
+		this.originYOffset = originYOffset;
+	}
+
+	// The first volley goes out on the next emit; starting a pattern replaces the one in progress.
+	public void start(BulletPattern pattern) {
+		this.pattern = pattern;
+		this.volleysFired = 0;
+		this.ticksUntilNextVolley = 0;
+	}
+
+	public void stop() {
+		pattern = null;
+	}
+
+	public boolean isActive() {
+		return pattern != null;
+	}
+
+	public BulletPattern getPattern() {
+		return pattern;
+	}
+
+	// Called once per tick while active; returns the number of bullets handed to the sink.
+	public int emit(double targetX, double targetY, BulletSink sink) {
+		if (pattern == null || ticksUntilNextVolley-- > 0) {
+			return 0;
+		}
+		double originX = owner.getLayoutX() + owner.getTranslateX() + originXOffset;
+		double originY = owner.getLayoutY() + owner.getTranslateY() + originYOffset;
+		double baseAngle = volleysFired * pattern.getRotationPerVolley();
+		if (pattern.isAimed()) {
+			baseAngle += Math.atan2(targetY - originY, targetX - originX);
+		}
+		double baseCos = Math.cos(baseAngle);
+		double baseSin = Math.sin(baseAngle);
+		double speed = pattern.getSpeed();
+		int bullets = pattern.getBulletsPerVolley();
+		for (int i = 0; i < bullets; i++) {
+			double cos = pattern.getDirectionCos(i);
+			double sin = pattern.getDirectionSin(i);
+			sink.spawnBullet(originX, originY, (baseCos * cos - baseSin * sin) * speed,
+					(baseSin * cos + baseCos * sin) * speed, pattern.getTurnRate(), pattern.getHomingTicks());
+		}
+		ticksUntilNextVolley = pattern.getVolleyInterval() - 1;
+		if (++volleysFired == pattern.getVolleys()) {
+			pattern = null;
+		}
+		return bullets;
+	}
+
+}
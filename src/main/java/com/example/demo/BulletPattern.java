@@ -0,0 +1,114 @@
+package com.example.demo;
+
+public final class BulletPattern {
+
+	private static final double FULL_CIRCLE = 2 * Math.PI;
+	private final BulletPatternType type;
+	private final int bulletsPerVolley;
+	private final int volleys;
+	private final int volleyInterval;
+	private final double speed;
+	private final double rotationPerVolley;
+	private final double turnRate;
+	private final int homingTicks;
+	private final double[] directionCos;
+	private final double[] directionSin;
+
+	private BulletPattern(BulletPatternType type, int bulletsPerVolley, int volleys, int volleyInterval, double speed,
+			double spread, double rotationPerVolley, double turnRate, int homingTicks) {
+		if (bulletsPerVolley <= 0 || volleys <= 0 || volleyInterval <= 0) {
+			throw new IllegalArgumentException("Bullet patterns need at least one bullet, volley and tick between volleys");
+		}
+		this.type = type;
+		this.bulletsPerVolley = bulletsPerVolley;
+		this.volleys = volleys;
+		this.volleyInterval = volleyInterval;
+		this.speed = speed;
+		this.rotationPerVolley = rotationPerVolley;
+		this.turnRate = turnRate;
+		this.homingTicks = homingTicks;
+		this.directionCos = new double[bulletsPerVolley];
+		this.directionSin = new double[bulletsPerVolley];
+		boolean ring = type == BulletPatternType.RADIAL || type == BulletPatternType.SPIRAL;
+		for (int i = 0; i < bulletsPerVolley; i++) {
+			double angle;
+			if (ring) {
+				angle = i * FULL_CIRCLE / bulletsPerVolley;
+			} else {
+				angle = bulletsPerVolley == 1 ? 0 : spread * i / (bulletsPerVolley - 1) - spread / 2;
+			}
+			directionCos[i] = Math.cos(angle);
+			directionSin[i] = Math.sin(angle);
+		}
+	}
+
+	public static BulletPattern radial(int bullets, double speed) {
+		return new BulletPattern(BulletPatternType.RADIAL, bullets, 1, 1, speed, 0, 0, 0, 0);
+	}
+
+	public static BulletPattern spiral(int arms, double speed, double degreesPerVolley, int volleys, int volleyInterval) {
+		return new BulletPattern(BulletPatternType.SPIRAL, arms, volleys, volleyInterval, speed, 0,
+				Math.toRadians(degreesPerVolley), 0, 0);
+	}
+
+	public static BulletPattern aimed(int bullets, double spreadDegrees, double speed, int volleys, int volleyInterval) {
+		return new BulletPattern(BulletPatternType.AIMED, bullets, volleys, volleyInterval, speed,
+				Math.toRadians(spreadDegrees), 0, 0, 0);
+	}
+
+	public static BulletPattern homing(int bullets, double spreadDegrees, double speed, double turnDegreesPerTick,
+			int homingTicks) {
+		return new BulletPattern(BulletPatternType.HOMING, bullets, 1, 1, speed, Math.toRadians(spreadDegrees), 0,
+				Math.toRadians(turnDegreesPerTick), homingTicks);
+	}
+
+	public BulletPatternType getType() {
+		return type;
+	}
+
+	public boolean isAimed() {
+		return type == BulletPatternType.AIMED || type == BulletPatternType.HOMING;
+	}
+
+	public int getBulletsPerVolley() {
+		return bulletsPerVolley;
+	}
+
+	public int getVolleys() {
+		return volleys;
+	}
+
+	public int getVolleyInterval() {
+		return volleyInterval;
+	}
+
+	public int getBulletCount() {
+		return bulletsPerVolley * volleys;
+	}
+
+	public double getSpeed() {
+		return speed;
+	}
+
+	public double getRotationPerVolley() {
+		return rotationPerVolley;
+	}
+
+	public double getTurnRate() {
+		return turnRate;
+	}
+
+	public int getHomingTicks() {
+		return homingTicks;
+	}
+
+	// Directions relative to the volley's base angle, computed once so emitting a volley needs no trigonometry per bullet.
+	double getDirectionCos(int bullet) {
+		return directionCos[bullet];
+	}
+
+	double getDirectionSin(int bullet) {
+		return directionSin[bullet];
+	}
+
+}
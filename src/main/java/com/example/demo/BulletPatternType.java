@@ -0,0 +1,10 @@
+package com.example.demo;
+
+public enum BulletPatternType {
+
+	RADIAL,
+	SPIRAL,
+	AIMED,
+	HOMING
+
+}
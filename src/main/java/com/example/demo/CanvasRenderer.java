@@ -0,0 +1,85 @@
+package com.example.demo;
+
+import java.util.*;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.*;
+import javafx.scene.image.Image;
+
+public class CanvasRenderer implements ActorRenderer {
+
+	private static final int INITIAL_CAPACITY = 64;
+	private final Canvas canvas;
+	private final GraphicsContext graphics;
+	private final Map<ActiveActor, Integer> slots;
+	private ActiveActor[] actors;
+	private Sprite[] sprites;
+	private int size;
+
+	public CanvasRenderer(Group layer, double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.slots = new IdentityHashMap<>();
+		this.actors = new ActiveActor[INITIAL_CAPACITY];
+		this.sprites = new Sprite[INITIAL_CAPACITY];
+		canvas.setMouseTransparent(true);
+		layer.getChildren().add(canvas);
+	}
+
+	@Override
+	public void add(ActiveActor actor) {
+		if (slots.containsKey(actor)) {
+			return;
+		}
+		if (size == actors.length) {
+			actors = Arrays.copyOf(actors, size * 2);
+			sprites = Arrays.copyOf(sprites, size * 2);
+		}
+		actors[size] = actor;
+		sprites[size] = SpriteCache.getSprite(actor.getImageName());
+		slots.put(actor, size);
+		size++;
+	}
+
+	// Swap-remove keeps removal O(1); draw order among actors is not significant.
+	@Override
+	public void remove(ActiveActor actor) {
+		Integer slot = slots.remove(actor);
+		if (slot == null) {
+			return;
+		}
+		int last = --size;
+		if (slot != last) {
+			actors[slot] = actors[last];
+			sprites[slot] = sprites[last];
+			slots.put(actors[slot], slot);
+		}
+		actors[last] = null;
+		sprites[last] = null;
+	}
+
+	@Override
+	public void render(double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		for (int i = 0; i < size; i++) {
+			ActiveActor actor = actors[i];
+			Image image = sprites[i].getImage();
+			Rectangle2D viewport = sprites[i].getViewport();
+			double x = actor.getLayoutX() + actor.getInterpolatedTranslateX(alpha);
+			double y = actor.getLayoutY() + actor.getInterpolatedTranslateY(alpha);
+			if (viewport != null) {
+				graphics.drawImage(image, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(),
+						viewport.getHeight(), x, y, actor.getWidth(), actor.getHeight());
+			} else {
+				graphics.drawImage(image, x, y, actor.getWidth(), actor.getHeight());
+			}
+		}
+	}
+
+	@Override
+	public int getActorCount() {
+		return size;
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.example.demo;
+
+public interface CollisionEngine {
+
+	String BRUTE_FORCE = "bruteforce";
+	String SPATIAL_HASH = "spatial";
+
+	String getName();
+
+	int handleCollisions(ActorStore actors1, ActorStore actors2);
+
+	default void setTickExecutor(TickExecutor tickExecutor) {
+	}
+
+	static CollisionEngine create(String name) {
+		switch (name) {
+			case BRUTE_FORCE:
+				return new BruteForceCollisionEngine();
+			case SPATIAL_HASH:
+				return new SpatialHashCollisionEngine();
+			default:
+				throw new IllegalArgumentException("Unknown collision engine: " + name);
+		}
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.example.demo;
+
+import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CollisionMask {
+
+	private static final int ALPHA_THRESHOLD = 128;
+	private static final System.Logger LOGGER = System.getLogger(CollisionMask.class.getName());
+	private static final Map<String, CollisionMask> sourceMasks = new ConcurrentHashMap<>();
+	private static final Map<String, CollisionMask> masks = new ConcurrentHashMap<>();
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] bits;
+	private int minX;
+	private int minY;
+	private int maxX;
+	private int maxY;
+
+	private CollisionMask(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + Long.SIZE - 1) / Long.SIZE;
+		this.bits = new long[wordsPerRow * height];
+	}
+
+	// Masks are built once per sprite and rendered height, at the size the actor is drawn.
+	public static CollisionMask forSprite(String imageName, int imageHeight) {
+		return masks.computeIfAbsent(imageName + "@" + imageHeight, key -> {
+			int width = (int) Math.round(imageHeight * SpriteMetrics.getAspectRatio(imageName));
+			CollisionMask source = getSourceMask(imageName);
+			return source == null ? solid(width, imageHeight) : source.scaleTo(width, imageHeight);
+		});
+	}
+
+	// Decoding is the expensive part, so it can be done up front for every sprite.
+	public static void preload(String imageName) {
+		getSourceMask(imageName);
+	}
+
+	public int getMinX() {
+		return minX;
+	}
+
+	public int getMinY() {
+		return minY;
+	}
+
+	public int getMaxX() {
+		return maxX;
+	}
+
+	public int getMaxY() {
+		return maxY;
+	}
+
+	public boolean isSet(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height
+				&& (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+	}
+
+	// offsetX/offsetY place the other mask's origin in this mask's coordinates.
+	public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+		int fromX = Math.max(minX, other.minX + offsetX);
+		int toX = Math.min(maxX, other.maxX + offsetX);
+		int fromY = Math.max(minY, other.minY + offsetY);
+		int toY = Math.min(maxY, other.maxY + offsetY);
+		for (int y = fromY; y < toY; y++) {
+			for (int x = fromX; x < toX; x += Long.SIZE) {
+				int count = Math.min(Long.SIZE, toX - x);
+				if ((row(y, x, count) & other.row(y - offsetY, x - offsetX, count)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private long row(int y, int x, int count) {
+		int index = y * wordsPerRow + (x >>> 6);
+		int shift = x & 63;
+		long value = bits[index] >>> shift;
+		if (shift != 0 && (x >>> 6) + 1 < wordsPerRow) {
+			value |= bits[index + 1] << (Long.SIZE - shift);
+		}
+		return count == Long.SIZE ? value : value & ((1L << count) - 1);
+	}
+
+	private static CollisionMask getSourceMask(String imageName) {
+		return sourceMasks.computeIfAbsent(imageName, CollisionMask::load);
+	}
+
+	private static CollisionMask load(String imageName) {
+		try (InputStream stream = CollisionMask.class.getResourceAsStream(SpriteMetrics.IMAGE_LOCATION + imageName)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Missing sprite: " + imageName);
+			}
+			PngAlphaReader image = new PngAlphaReader(stream);
+			CollisionMask mask = new CollisionMask(image.getWidth(), image.getHeight());
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					if (image.getAlpha(x, y) >= ALPHA_THRESHOLD) {
+						mask.set(x, y);
+					}
+				}
+			}
+			return mask;
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Using a solid collision mask for " + imageName, e);
+			return null;
+		}
+	}
+
+	// A target pixel is solid if any source pixel it covers is, so thin features survive downscaling.
+	private CollisionMask scaleTo(int targetWidth, int targetHeight) {
+		CollisionMask mask = new CollisionMask(targetWidth, targetHeight);
+		for (int y = 0; y < targetHeight; y++) {
+			int sourceFromY = y * height / targetHeight;
+			int sourceToY = Math.max(sourceFromY + 1, (y + 1) * height / targetHeight);
+			for (int x = 0; x < targetWidth; x++) {
+				int sourceFromX = x * width / targetWidth;
+				int sourceToX = Math.max(sourceFromX + 1, (x + 1) * width / targetWidth);
+				if (anySet(sourceFromX, sourceToX, sourceFromY, sourceToY)) {
+					mask.set(x, y);
+				}
+			}
+		}
+		return mask.maxX == 0 ? solid(targetWidth, targetHeight) : mask;
+	}
+
+	private boolean anySet(int fromX, int toX, int fromY, int toY) {
+		for (int y = fromY; y < toY; y++) {
+			for (int x = fromX; x < toX; x++) {
+				if (isSet(x, y)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static CollisionMask solid(int width, int height) {
+		CollisionMask mask = new CollisionMask(width, height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				mask.set(x, y);
+			}
+		}
+		return mask;
+	}
+
+	private void set(int x, int y) {
+		if (maxX == 0) {
+			minX = x;
+			minY = y;
+		}
+		bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+		minX = Math.min(minX, x);
+		minY = Math.min(minY, y);
+		maxX = Math.max(maxX, x + 1);
+		maxY = Math.max(maxY, y + 1);
+	}
+
+}
@@ -0,0 +1,183 @@
+package com.example.demo;
+
+import java.io.*;
+
+import javafx.scene.Group;
+
+public class DataDrivenLevel extends LevelParent {
+
+	private static final int SPAWN_LOOKAHEAD_TICKS = 20;
+	private final LevelDefinition definition;
+	private final EnemyArchetype spawnerArchetype;
+	private final SpawnScheduler waveSpawns;
+	private final SpawnScheduler spawnerSpawns;
+	private final int maxSpawnsPerTick;
+	private SpawnWave nextWave;
+	private int enemiesSpawned;
+	private int deferredSpawns;
+
+	public DataDrivenLevel(LevelDefinition definition, double screenHeight, double screenWidth, long seed) {
+		super(definition.getName(), definition.getBackgroundImageName(), screenHeight, screenWidth,
+				definition.getPlayerHealth(), seed);
+		this.definition = definition;
+		this.spawnerArchetype = definition.getSpawnerArchetype() == LevelDefinition.NO_SPAWNER ? null
+				: definition.getArchetype(definition.getSpawnerArchetype());
+		this.waveSpawns = new SpawnScheduler();
+		this.spawnerSpawns = new SpawnScheduler();
+		this.maxSpawnsPerTick = GameSettings.getMaxSpawnsPerTick();
+		this.nextWave = readNextWave();
+	}
+
+	// Prewarmed here rather than in the constructor, which runs on the loader thread while the pool is in use.
+	@Override
+	public void start() {
+		if (getState() == LevelState.LOADING && spawnerArchetype != null) {
+			EnemyPlane.prewarm(definition.getSpawnerMaxEnemies());
+		}
+		super.start();
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+		else if (winConditionMet()) {
+			if (definition.getNextLevelName() != null) {
+				goToNextLevel(definition.getNextLevelName());
+			} else {
+				winGame();
+			}
+		}
+	}
+
+	// Only spawns that are due cost anything; one budget across both queues spreads bursts over several ticks.
+	@Override
+	protected void spawnEnemyUnits() {
+		long tick = getTickCount();
+		scheduleWaves(tick);
+		if (spawnerArchetype != null) {
+			scheduleSpawnerEnemies(tick);
+		}
+		spawnDue(tick);
+	}
+
+	@Override
+	public String getNextLevelName() {
+		return definition.getNextLevelName();
+	}
+
+	@Override
+	protected LevelView instantiateLevelView(Group root) {
+		if (definition.hasArchetype(EnemyKind.BOSS)) {
+			return new LevelViewLevelTwo(root, definition.getPlayerHealth());
+		}
+		return new LevelView(root, definition.getPlayerHealth());
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		waveSpawns.clear();
+		spawnerSpawns.clear();
+		try {
+			definition.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public LevelDefinition getDefinition() {
+		return definition;
+	}
+
+	public int getEnemiesSpawned() {
+		return enemiesSpawned;
+	}
+
+	// Spawns that entered the level after their scheduled tick because the budget was spent.
+	public int getDeferredSpawns() {
+		return deferredSpawns;
+	}
+
+	public int getPendingSpawns() {
+		return waveSpawns.size() + spawnerSpawns.size();
+	}
+
+	private boolean winConditionMet() {
+		if (definition.getWinCondition() == WinCondition.KILLS) {
+			return getUser().getNumberOfKills() >= definition.getKillTarget();
+		}
+		return nextWave == null && waveSpawns.isEmpty() && spawnerArchetype == null && enemiesSpawned > 0
+				&& getCurrentNumberOfEnemies() == 0;
+	}
+
+	// Waves are read and their enemies prepared a little ahead of time, so long levels never sit in memory whole.
+	private void scheduleWaves(long tick) {
+		while (nextWave != null && nextWave.getStartTick() <= tick + SPAWN_LOOKAHEAD_TICKS) {
+			for (int i = 0; i < nextWave.size(); i++) {
+				waveSpawns.schedule(nextWave.getSpawnTick(i),
+						prepare(definition.getArchetype(nextWave.getArchetype(i)), nextWave.getPosition(i)));
+			}
+			nextWave = readNextWave();
+		}
+	}
+
+	// Each empty slot is refilled after a geometric delay, which matches rolling the spawn chance every tick.
+	private void scheduleSpawnerEnemies(long tick) {
+		double chance = definition.getSpawnerChance();
+		if (chance <= 0) {
+			return;
+		}
+		int missing = definition.getSpawnerMaxEnemies() - getCurrentNumberOfEnemies() - spawnerSpawns.size();
+		for (int i = 0; i < missing; i++) {
+			double roll = getRandom().nextDouble(RandomStream.SPAWN);
+			long delay = chance >= 1 ? 0 : (long) Math.floor(Math.log(1 - roll) / Math.log(1 - chance));
+			double yFraction = getRandom().nextDouble(RandomStream.SPAWN);
+			spawnerSpawns.schedule(tick + delay, prepare(spawnerArchetype, yFraction));
+		}
+	}
+
+	// The oldest due spawn goes first, with waves winning ties, so neither queue starves the other.
+	private void spawnDue(long tick) {
+		for (int spawned = 0; spawned < maxSpawnsPerTick; spawned++) {
+			SpawnScheduler scheduler = waveSpawns.peekTick() <= spawnerSpawns.peekTick() ? waveSpawns : spawnerSpawns;
+			long dueTick = scheduler.peekTick();
+			if (dueTick > tick) {
+				return;
+			}
+			if (dueTick < tick) {
+				deferredSpawns++;
+			}
+			addEnemyUnit(scheduler.poll());
+			enemiesSpawned++;
+		}
+	}
+
+	// Planes spread the fraction over the screen; a boss spreads it over the band it strafes in.
+	private ActiveActorDestructible prepare(EnemyArchetype archetype, double yFraction) {
+		if (archetype.getKind() == EnemyKind.BOSS) {
+			Boss boss = archetype.getScript() == null
+					? new Boss(getRandom(), archetype.getHealth(), archetype.getFireRate(), (int) archetype.getSpeed())
+					: new Boss(getRandom(), archetype.getHealth(), archetype.getFireRate(), (int) archetype.getSpeed(),
+							archetype.getScript());
+			boss.setStartPosition(yFraction);
+			attachPlaneEvents(boss);
+			return boss;
+		}
+		return EnemyPlane.obtain(getScreenWidth(), yFraction * getEnemyMaximumYPosition(), archetype);
+	}
+
+	private SpawnWave readNextWave() {
+		try {
+			SpawnWave wave;
+			do {
+				wave = definition.nextWave();
+			} while (wave != null && wave.size() == 0);
+			return wave;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
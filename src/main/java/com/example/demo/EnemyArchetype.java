@@ -0,0 +1,50 @@
+package com.example.demo;
+
+public final class EnemyArchetype {
+
+	private final String name;
+	private final EnemyKind kind;
+	private final int health;
+	private final double fireRate;
+	private final double speed;
+	private final BossScript script;
+
+	public EnemyArchetype(String name, EnemyKind kind, int health, double fireRate, double speed) {
+		this(name, kind, health, fireRate, speed, null);
+	}
+
+	public EnemyArchetype(String name, EnemyKind kind, int health, double fireRate, double speed, BossScript script) {
+		this.name = name;
+		this.kind = kind;
+		this.health = health;
+		this.fireRate = fireRate;
+		this.speed = speed;
+		this.script = script;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public EnemyKind getKind() {
+		return kind;
+	}
+
+	public int getHealth() {
+		return health;
+	}
+
+	public double getFireRate() {
+		return fireRate;
+	}
+
+	public double getSpeed() {
+		return speed;
+	}
+
+	// Null when the archetype uses its enemy's built-in behaviour.
+	public BossScript getScript() {
+		return script;
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo;
+
+// Carries a snapshot rather than the actor, which is back in its pool by the time queued listeners run.
+public final class EnemyDestroyed extends GameEvent {
+
+	private final String enemyType;
+	private final double x;
+	private final double y;
+
+	public EnemyDestroyed(long tick, String enemyType, double x, double y) {
+		super(tick);
+		this.enemyType = enemyType;
+		this.x = x;
+		this.y = y;
+	}
+
+	public String getEnemyType() {
+		return enemyType;
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.example.demo;
+
+public enum EnemyKind {
+
+	PLANE,
+	BOSS
+
+}
@@ -9,24 +9,59 @@ public class EnemyPlane extends FighterPlane {
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
 	private static final double FIRE_RATE = .01;
+	private static final int POOL_CAPACITY = 16;
+	private static final ActorPool<EnemyPlane> POOL = new ActorPool<>("EnemyPlane", POOL_CAPACITY,
+			() -> new EnemyPlane(0, 0));
+	private double fireRate;
 
 	public EnemyPlane(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
+		this.fireRate = FIRE_RATE;
+	}
+
+	public static EnemyPlane obtain(double initialXPos, double initialYPos) {
+		EnemyPlane enemy = POOL.obtain();
+		enemy.reset(initialXPos, initialYPos);
+		enemy.setVelocity(HORIZONTAL_VELOCITY, 0);
+		enemy.fireRate = FIRE_RATE;
+		return enemy;
+	}
+
+	// Pooled planes are shared between archetypes, so every obtain restores the full tuning.
+	public static EnemyPlane obtain(double initialXPos, double initialYPos, EnemyArchetype archetype) {
+		EnemyPlane enemy = POOL.obtain();
+		enemy.reset(initialXPos, initialYPos);
+		enemy.setHealth(archetype.getHealth());
+		enemy.setVelocity(-archetype.getSpeed(), 0);
+		enemy.fireRate = archetype.getFireRate();
+		return enemy;
+	}
+
+	public static void prewarm(int count) {
+		POOL.prewarm(count);
 	}
 
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveHorizontally(getVelocityX());
 	}
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
-			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
-			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
-		}
-		return null;
+	public boolean isKinematic() {
+		return true;
+	}
+
+	@Override
+	public boolean firesInCurrentFrame(double roll) {
+		return roll < fireRate;
+	}
+
+	@Override
+	public ActiveActorDestructible createProjectile() {
+		double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+		double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+		return EnemyProjectile.obtain(projectileXPosition, projectileYPostion);
 	}
 
 	@Override
@@ -34,4 +69,9 @@ public class EnemyPlane extends FighterPlane {
 		updatePosition();
 	}
 
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
+
 }
@@ -5,14 +5,29 @@ public class EnemyProjectile extends Projectile {
 	private static final String IMAGE_NAME = "enemyFire.png";
 	private static final int IMAGE_HEIGHT = 50;
 	private static final int HORIZONTAL_VELOCITY = -10;
+	private static final int POOL_CAPACITY = 64;
+	private static final ActorPool<EnemyProjectile> POOL = new ActorPool<>("EnemyProjectile", POOL_CAPACITY,
+			() -> new EnemyProjectile(0, 0));
 
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	public static EnemyProjectile obtain(double initialXPos, double initialYPos) {
+		EnemyProjectile projectile = POOL.obtain();
+		projectile.reset(initialXPos, initialYPos);
+		return projectile;
 	}
 
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveHorizontally(getVelocityX());
+	}
+
+	@Override
+	public boolean isKinematic() {
+		return true;
 	}
 
 	@Override
@@ -20,5 +35,9 @@ public class EnemyProjectile extends Projectile {
 		updatePosition();
 	}
 
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
 
 }
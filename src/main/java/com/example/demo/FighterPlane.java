@@ -2,23 +2,48 @@ package com.example.demo;
 
 public abstract class FighterPlane extends ActiveActorDestructible {
 
-	private int health;
+	private final int initialHealth;
+	private PlaneListener planeListener;
 
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
-		this.health = health;
+		this.initialHealth = health;
+		this.planeListener = PlaneListener.NONE;
+		setHealth(health);
 	}
 
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract boolean firesInCurrentFrame(double roll);
+
+	public abstract ActiveActorDestructible createProjectile();
+
+	// Planes that fire bullet patterns return their emitter; the level drives it once per tick.
+	public BulletEmitter getBulletEmitter() {
+		return null;
+	}
 	
 	@Override
 	public void takeDamage() {
-		health--;
+		setHealth(getHealth() - 1);
+		planeListener.healthChanged(this, getHealth());
 		if (healthAtZero()) {
 			this.destroy();
 		}
 	}
 
+	@Override
+	protected void reset(double xPosition, double yPosition) {
+		super.reset(xPosition, yPosition);
+		setHealth(initialHealth);
+	}
+
+	public void setPlaneListener(PlaneListener planeListener) {
+		this.planeListener = planeListener;
+	}
+
+	protected PlaneListener getPlaneListener() {
+		return planeListener;
+	}
+
 	protected double getProjectileXPosition(double xPositionOffset) {
 		return getLayoutX() + getTranslateX() + xPositionOffset;
 	}
@@ -28,11 +53,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	}
 
 	private boolean healthAtZero() {
-		return health == 0;
-	}
-
-	public int getHealth() {
-		return health;
+		return getHealth() == 0;
 	}
 		
 }
@@ -0,0 +1,60 @@
+package com.example.demo;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+public class FixedTimestepGameLoop extends AnimationTimer implements GameLoop {
+
+	private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+	private final long stepNanos;
+	private final int maxStepsPerFrame;
+	private final Runnable tick;
+	private final DoubleConsumer render;
+	private long lastFrameTime;
+	private long accumulatedNanos;
+	private boolean running;
+
+	public FixedTimestepGameLoop(int logicHz, int maxStepsPerFrame, Runnable tick, DoubleConsumer render) {
+		this.stepNanos = NANOSECONDS_PER_SECOND / logicHz;
+		this.maxStepsPerFrame = maxStepsPerFrame;
+		this.tick = tick;
+		this.render = render;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		lastFrameTime = 0;
+		accumulatedNanos = 0;
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	@Override
+	public void handle(long now) {
+		if (lastFrameTime == 0) {
+			lastFrameTime = now;
+		}
+		accumulatedNanos += now - lastFrameTime;
+		lastFrameTime = now;
+		int steps = 0;
+		while (running && accumulatedNanos >= stepNanos && steps < maxStepsPerFrame) {
+			tick.run();
+			accumulatedNanos -= stepNanos;
+			steps++;
+		}
+		if (steps == maxStepsPerFrame) {
+			accumulatedNanos = Math.min(accumulatedNanos, stepNanos);
+		}
+		if (running) {
+			render.accept((double) accumulatedNanos / stepNanos);
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.example.demo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class ForkJoinTickExecutor implements TickExecutor {
+
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final ChunkWorker[] workers;
+	private final AtomicInteger nextChunk;
+	private final AtomicInteger runningWorkers;
+	private volatile Thread waiter;
+	private volatile Throwable failure;
+	private ChunkTask task;
+	private int size;
+	private int chunkCount;
+
+	public ForkJoinTickExecutor(int threads, int chunkSize) {
+		if (threads < 1 || chunkSize < 1) {
+			throw new IllegalArgumentException("Threads and chunk size must be positive");
+		}
+		this.pool = new ForkJoinPool(threads);
+		this.chunkSize = chunkSize;
+		this.workers = new ChunkWorker[threads];
+		for (int i = 0; i < threads; i++) {
+			workers[i] = new ChunkWorker();
+			workers[i].quietlyComplete();
+		}
+		this.nextChunk = new AtomicInteger();
+		this.runningWorkers = new AtomicInteger();
+	}
+
+	@Override
+	public int getChunkCount(int size) {
+		return (size + chunkSize - 1) / chunkSize;
+	}
+
+	// The caller and reused pool workers claim chunks from a shared counter, and the caller parks until the last
+	// worker leaves; ForkJoinTask.join from outside the pool would allocate a wait node on most passes.
+	@Override
+	public void forEachChunk(int size, ChunkTask task) {
+		int chunkCount = getChunkCount(size);
+		if (chunkCount == 1) {
+			task.run(0, 0, size);
+		} else if (chunkCount > 1) {
+			this.task = task;
+			this.size = size;
+			this.chunkCount = chunkCount;
+			nextChunk.set(0);
+			int helpers = Math.min(workers.length, chunkCount - 1);
+			runningWorkers.set(helpers);
+			waiter = Thread.currentThread();
+			for (int i = 0; i < helpers; i++) {
+				submit(workers[i]);
+			}
+			try {
+				runChunks();
+			} finally {
+				while (runningWorkers.get() > 0) {
+					LockSupport.park(this);
+				}
+				waiter = null;
+				this.task = null;
+			}
+			rethrowFailure();
+		}
+	}
+
+	@Override
+	public void close() {
+		pool.shutdown();
+	}
+
+	// A worker counts itself out just before the pool marks it done, and resubmitting it in that window would lose
+	// it, so this waits out the gap; workers start completed so the first pass finds them idle.
+	private void submit(ChunkWorker worker) {
+		while (!worker.isDone()) {
+			Thread.yield();
+		}
+		worker.reinitialize();
+		pool.execute(worker);
+	}
+
+	private void runChunks() {
+		int chunk;
+		while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+			int from = chunk * chunkSize;
+			task.run(chunk, from, Math.min(from + chunkSize, size));
+		}
+	}
+
+	private void rethrowFailure() {
+		Throwable workerFailure = failure;
+		if (workerFailure != null) {
+			failure = null;
+			if (workerFailure instanceof Error) {
+				throw (Error) workerFailure;
+			}
+			throw (RuntimeException) workerFailure;
+		}
+	}
+
+	private class ChunkWorker extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void compute() {
+			try {
+				runChunks();
+			} catch (RuntimeException | Error e) {
+				failure = e;
+			} finally {
+				if (runningWorkers.decrementAndGet() == 0) {
+					LockSupport.unpark(waiter);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+package com.example.demo;
+
+import java.io.*;
+import java.nio.file.*;
+
+public class FrameProfiler {
+
+	public static final int VIEW_UPDATE = TickStage.values().length;
+	public static final int TOTAL = VIEW_UPDATE + 1;
+	public static final int FRIENDLY_UNITS = 0;
+	public static final int ENEMY_UNITS = 1;
+	public static final int USER_PROJECTILES = 2;
+	public static final int ENEMY_PROJECTILES = 3;
+	public static final int SCENE_NODES = 4;
+	public static final int CULLED_ACTORS = 5;
+	private static final int DEFAULT_CAPACITY = 512;
+	private static final TickStage[] TICK_STAGES = TickStage.values();
+	private static final String[] COUNTER_NAMES = { "friendlyUnits", "enemyUnits", "userProjectiles",
+			"enemyProjectiles", "sceneNodes", "culledActors" };
+	private static final double NANOS_PER_MILLI = 1e6;
+	private final int capacity;
+	private final long[][] sectionNanos;
+	private final int[][] counters;
+	private final long[] frameNumbers;
+	private int cursor;
+	private long frameCount;
+
+	public FrameProfiler() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public FrameProfiler(int capacity) {
+		this.capacity = capacity;
+		this.sectionNanos = new long[TOTAL + 1][capacity];
+		this.counters = new int[COUNTER_NAMES.length][capacity];
+		this.frameNumbers = new long[capacity];
+		this.cursor = -1;
+	}
+
+	public void beginFrame(long frameNumber) {
+		cursor = (cursor + 1) % capacity;
+		frameNumbers[cursor] = frameNumber;
+		for (long[] nanos : sectionNanos) {
+			nanos[cursor] = 0;
+		}
+		frameCount++;
+	}
+
+	// View updates run between ticks, so they are added to the most recent frame.
+	public void record(int section, long nanos) {
+		if (cursor >= 0) {
+			sectionNanos[section][cursor] += nanos;
+		}
+	}
+
+	public void record(TickStage stage, long nanos) {
+		record(stage.ordinal(), nanos);
+	}
+
+	public void setCounter(int counter, int value) {
+		if (cursor >= 0) {
+			counters[counter][cursor] = value;
+		}
+	}
+
+	public int getSampleCount() {
+		return (int) Math.min(frameCount, capacity);
+	}
+
+	public long getFrameCount() {
+		return frameCount;
+	}
+
+	public static int getSectionCount() {
+		return TOTAL + 1;
+	}
+
+	public static String getSectionName(int section) {
+		if (section == VIEW_UPDATE) {
+			return "VIEW_UPDATE";
+		}
+		return section == TOTAL ? "TOTAL" : TICK_STAGES[section].name();
+	}
+
+	public double getAverageMillis(int section) {
+		int samples = getSampleCount();
+		if (samples == 0) {
+			return 0;
+		}
+		long total = 0;
+		for (int i = 0; i < samples; i++) {
+			total += sectionNanos[section][i];
+		}
+		return total / NANOS_PER_MILLI / samples;
+	}
+
+	public double getMaxMillis(int section) {
+		long max = 0;
+		for (int i = 0; i < getSampleCount(); i++) {
+			max = Math.max(max, sectionNanos[section][i]);
+		}
+		return max / NANOS_PER_MILLI;
+	}
+
+	public int getLatestCounter(int counter) {
+		return cursor >= 0 ? counters[counter][cursor] : 0;
+	}
+
+	public void writeCsv(Path path) throws IOException {
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+			out.print("frame");
+			for (int section = 0; section < getSectionCount(); section++) {
+				out.print(',');
+				out.print(getSectionName(section));
+				out.print("_ns");
+			}
+			for (String counterName : COUNTER_NAMES) {
+				out.print(',');
+				out.print(counterName);
+			}
+			out.println();
+			int samples = getSampleCount();
+			for (int i = samples - 1; i >= 0; i--) {
+				int index = Math.floorMod(cursor - i, capacity);
+				out.print(frameNumbers[index]);
+				for (long[] nanos : sectionNanos) {
+					out.print(',');
+					out.print(nanos[index]);
+				}
+				for (int[] counter : counters) {
+					out.print(',');
+					out.print(counter[index]);
+				}
+				out.println();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.example.demo;
+
+public abstract class GameEvent {
+
+	private final long tick;
+
+	protected GameEvent(long tick) {
+		this.tick = tick;
+	}
+
+	public long getTick() {
+		return tick;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.example.demo;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GameEventBus {
+
+	private static final GameEventListener<?>[] NO_LISTENERS = new GameEventListener<?>[0];
+	private final Map<Class<?>, Subscribers> subscribers;
+	private final Queue<GameEvent> queuedEvents;
+
+	public GameEventBus() {
+		this.subscribers = new ConcurrentHashMap<>();
+		this.queuedEvents = new ConcurrentLinkedQueue<>();
+	}
+
+	// Called from publish(), on the publishing thread.
+	public <E extends GameEvent> void subscribe(Class<E> type, GameEventListener<? super E> listener) {
+		subscribersOf(type).immediate.add(listener);
+	}
+
+	// Called from dispatchQueued(), once the tick that published the event has finished.
+	public <E extends GameEvent> void subscribeQueued(Class<E> type, GameEventListener<? super E> listener) {
+		subscribersOf(type).queued.add(listener);
+	}
+
+	public <E extends GameEvent> void unsubscribe(Class<E> type, GameEventListener<? super E> listener) {
+		Subscribers typeSubscribers = subscribers.get(type);
+		if (typeSubscribers != null) {
+			typeSubscribers.immediate.remove(listener);
+			typeSubscribers.queued.remove(listener);
+		}
+	}
+
+	// Lets hot paths skip building an event nobody listens to.
+	public boolean hasListeners(Class<? extends GameEvent> type) {
+		Subscribers typeSubscribers = subscribers.get(type);
+		return typeSubscribers != null && (!typeSubscribers.immediate.isEmpty() || !typeSubscribers.queued.isEmpty());
+	}
+
+	public void publish(GameEvent event) {
+		Subscribers typeSubscribers = subscribers.get(event.getClass());
+		if (typeSubscribers == null) {
+			return;
+		}
+		typeSubscribers.immediate.deliver(event);
+		if (!typeSubscribers.queued.isEmpty()) {
+			queuedEvents.add(event);
+		}
+	}
+
+	public int dispatchQueued() {
+		int dispatched = 0;
+		GameEvent event;
+		while ((event = queuedEvents.poll()) != null) {
+			Subscribers typeSubscribers = subscribers.get(event.getClass());
+			if (typeSubscribers != null) {
+				typeSubscribers.queued.deliver(event);
+				dispatched++;
+			}
+		}
+		return dispatched;
+	}
+
+	public void clear() {
+		subscribers.clear();
+		queuedEvents.clear();
+	}
+
+	private Subscribers subscribersOf(Class<? extends GameEvent> type) {
+		return subscribers.computeIfAbsent(type, key -> new Subscribers());
+	}
+
+	private static class Subscribers {
+
+		private final ListenerArray immediate = new ListenerArray();
+		private final ListenerArray queued = new ListenerArray();
+
+	}
+
+	// Copy-on-write array swapped with CAS, so delivery never takes a lock.
+	private static class ListenerArray {
+
+		private final AtomicReference<GameEventListener<?>[]> listeners = new AtomicReference<>(NO_LISTENERS);
+
+		private void add(GameEventListener<?> listener) {
+			GameEventListener<?>[] current;
+			GameEventListener<?>[] updated;
+			do {
+				current = listeners.get();
+				updated = Arrays.copyOf(current, current.length + 1);
+				updated[current.length] = listener;
+			} while (!listeners.compareAndSet(current, updated));
+		}
+
+		private void remove(GameEventListener<?> listener) {
+			GameEventListener<?>[] current;
+			GameEventListener<?>[] updated;
+			do {
+				current = listeners.get();
+				int index = indexOf(current, listener);
+				if (index < 0) {
+					return;
+				}
+				updated = new GameEventListener<?>[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, index);
+				System.arraycopy(current, index + 1, updated, index, updated.length - index);
+			} while (!listeners.compareAndSet(current, updated));
+		}
+
+		private boolean isEmpty() {
+			return listeners.get().length == 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void deliver(GameEvent event) {
+			for (GameEventListener<?> listener : listeners.get()) {
+				((GameEventListener<GameEvent>) listener).onEvent(event);
+			}
+		}
+
+		private static int indexOf(GameEventListener<?>[] listeners, GameEventListener<?> listener) {
+			for (int i = 0; i < listeners.length; i++) {
+				if (listeners[i] == listener) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+	}
+
+}
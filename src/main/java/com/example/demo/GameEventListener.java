@@ -0,0 +1,8 @@
+package com.example.demo;
+
+@FunctionalInterface
+public interface GameEventListener<E extends GameEvent> {
+
+	void onEvent(E event);
+
+}
@@ -0,0 +1,12 @@
+package com.example.demo;
+
+public interface GameLoop {
+
+	String TIMELINE = "timeline";
+	String FIXED_TIMESTEP = "fixed";
+
+	void start();
+
+	void stop();
+
+}
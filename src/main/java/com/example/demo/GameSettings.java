@@ -0,0 +1,100 @@
+package com.example.demo;
+
+import java.nio.file.*;
+
+public final class GameSettings {
+
+	private static final String COLLISION_ENGINE_PROPERTY = "sky.collision";
+	static final String COLLISION_MASKS_PROPERTY = "sky.collision.masks";
+	private static final String GAME_LOOP_PROPERTY = "sky.loop";
+	private static final String LOGIC_HZ_PROPERTY = "sky.loop.hz";
+	private static final String MAX_CATCH_UP_STEPS_PROPERTY = "sky.loop.maxSteps";
+	private static final String TICK_EXECUTOR_PROPERTY = "sky.tick.executor";
+	private static final String TICK_THREADS_PROPERTY = "sky.tick.threads";
+	private static final String TICK_CHUNK_SIZE_PROPERTY = "sky.tick.chunkSize";
+	static final String MAX_SPAWNS_PER_TICK_PROPERTY = "sky.spawn.maxPerTick";
+	private static final String RENDERER_PROPERTY = "sky.renderer";
+	private static final String SEED_PROPERTY = "sky.seed";
+	private static final String PROFILER_PROPERTY = "sky.profiler";
+	private static final String PROFILER_DIRECTORY_PROPERTY = "sky.profiler.dir";
+	private static final String DEFAULT_PROFILER_DIRECTORY = ".";
+	private static final String REPLAY_DIRECTORY_PROPERTY = "sky.replay.dir";
+	private static final String REPLAY_CHECKSUM_INTERVAL_PROPERTY = "sky.replay.checksumInterval";
+	private static final int DEFAULT_REPLAY_CHECKSUM_INTERVAL = 60;
+	private static final long STARTUP_SEED = System.nanoTime();
+	private static final int DEFAULT_LOGIC_HZ = 20;
+	private static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+	private static final int DEFAULT_TICK_CHUNK_SIZE = 512;
+	private static final int DEFAULT_MAX_SPAWNS_PER_TICK = 4;
+
+	private GameSettings() {
+	}
+
+	public static String getCollisionEngine() {
+		return System.getProperty(COLLISION_ENGINE_PROPERTY, CollisionEngine.SPATIAL_HASH);
+	}
+
+	public static boolean isCollisionMaskEnabled() {
+		return Boolean.parseBoolean(System.getProperty(COLLISION_MASKS_PROPERTY, "true"));
+	}
+
+	public static String getGameLoop() {
+		return System.getProperty(GAME_LOOP_PROPERTY, GameLoop.FIXED_TIMESTEP);
+	}
+
+	public static int getLogicHz() {
+		return Integer.getInteger(LOGIC_HZ_PROPERTY, DEFAULT_LOGIC_HZ);
+	}
+
+	public static int getMaxCatchUpSteps() {
+		return Integer.getInteger(MAX_CATCH_UP_STEPS_PROPERTY, DEFAULT_MAX_CATCH_UP_STEPS);
+	}
+
+	public static String getTickExecutor() {
+		return System.getProperty(TICK_EXECUTOR_PROPERTY, TickExecutor.SERIAL);
+	}
+
+	public static int getTickThreads() {
+		return Integer.getInteger(TICK_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+	}
+
+	public static int getTickChunkSize() {
+		return Integer.getInteger(TICK_CHUNK_SIZE_PROPERTY, DEFAULT_TICK_CHUNK_SIZE);
+	}
+
+	public static int getMaxSpawnsPerTick() {
+		return Integer.getInteger(MAX_SPAWNS_PER_TICK_PROPERTY, DEFAULT_MAX_SPAWNS_PER_TICK);
+	}
+
+	// sky.renderer.<Level> overrides sky.renderer for a single level.
+	public static String getRenderer(String levelName) {
+		return System.getProperty(RENDERER_PROPERTY + "." + levelName,
+				System.getProperty(RENDERER_PROPERTY, ActorRenderer.NODES));
+	}
+
+	public static long getSeed() {
+		return Long.getLong(SEED_PROPERTY, STARTUP_SEED);
+	}
+
+	public static boolean isProfilerEnabled() {
+		return Boolean.getBoolean(PROFILER_PROPERTY);
+	}
+
+	public static Path getProfilerDirectory() {
+		return Paths.get(System.getProperty(PROFILER_DIRECTORY_PROPERTY, DEFAULT_PROFILER_DIRECTORY));
+	}
+
+	public static Path getReplayDirectory() {
+		String directory = System.getProperty(REPLAY_DIRECTORY_PROPERTY);
+		return directory == null ? null : Paths.get(directory);
+	}
+
+	public static int getReplayChecksumInterval() {
+		return Integer.getInteger(REPLAY_CHECKSUM_INTERVAL_PROPERTY, DEFAULT_REPLAY_CHECKSUM_INTERVAL);
+	}
+
+	public static TickExecutor createTickExecutor() {
+		return TickExecutor.create(getTickExecutor(), getTickThreads(), getTickChunkSize());
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import com.example.demo.metrics.GameMetrics;
+
+public class HeadlessSimulation {
+
+	private static final String FIRST_LEVEL_NAME = "LevelOne";
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final int DEFAULT_TICKS = 100_000;
+	private static final int AUTO_FIRE_INTERVAL = 4;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final long seed;
+	private final FrameProfiler frameProfiler;
+	private Consumer<LevelParent> inputSource;
+	private LevelParent level;
+	private String pendingLevelName;
+	private long ticksRun;
+
+	public HeadlessSimulation(String levelName, double screenHeight, double screenWidth, long seed)
+			throws ReflectiveOperationException {
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.seed = seed;
+		this.frameProfiler = GameSettings.isProfilerEnabled() ? new FrameProfiler() : null;
+		this.inputSource = level -> {
+		};
+		goToLevel(levelName);
+	}
+
+	public void setInputSource(Consumer<LevelParent> inputSource) {
+		this.inputSource = inputSource;
+	}
+
+	public long run(long maxTicks) throws ReflectiveOperationException {
+		long ticksAtStart = ticksRun;
+		while (ticksRun - ticksAtStart < maxTicks && !level.isFinished()) {
+			inputSource.accept(level);
+			level.tick();
+			ticksRun++;
+			if (pendingLevelName != null) {
+				goToLevel(pendingLevelName);
+			}
+		}
+		return ticksRun - ticksAtStart;
+	}
+
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+
+	public long getTicksRun() {
+		return ticksRun;
+	}
+
+	private void goToLevel(String levelName) throws ReflectiveOperationException {
+		if (level != null) {
+			level.dispose();
+		}
+		pendingLevelName = null;
+		level = LevelLoader.createLevel(levelName, screenHeight, screenWidth, seed);
+		level.getEventBus().subscribe(LevelCompleted.class, event -> pendingLevelName = event.getNextLevelName());
+		level.setFrameProfiler(frameProfiler);
+		ReplayRecorder.recordIfEnabled(level);
+		level.start();
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException, IOException {
+		GameMetrics.register();
+		String levelName = args.length > 0 ? args[0] : FIRST_LEVEL_NAME;
+		long ticks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TICKS;
+		HeadlessSimulation simulation = new HeadlessSimulation(levelName, SCREEN_HEIGHT, SCREEN_WIDTH,
+				GameSettings.getSeed());
+		simulation.setInputSource(level -> {
+			if (simulation.getTicksRun() % AUTO_FIRE_INTERVAL == 0) {
+				level.handleInput(InputAction.FIRE);
+			}
+		});
+		long start = System.nanoTime();
+		long ticksRun = simulation.run(ticks);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		LevelParent level = simulation.getLevel();
+		System.out.printf("%s: %d ticks in %.3f s (%.0f ticks/s), seed=%d, kills=%d, health=%d, state=%s%n",
+				level.getLevelName(), ticksRun, seconds, ticksRun / seconds, level.getSeed(),
+				level.getUser().getNumberOfKills(), level.getUser().getHealth(), level.getState());
+		level.dispose();
+		FrameProfiler frameProfiler = simulation.getFrameProfiler();
+		if (frameProfiler != null) {
+			Path path = GameSettings.getProfilerDirectory().resolve("frame-profile-headless.csv");
+			frameProfiler.writeCsv(path);
+			System.out.printf("Frame profile: %s (TOTAL avg %.3f ms, max %.3f ms)%n", path,
+					frameProfiler.getAverageMillis(FrameProfiler.TOTAL), frameProfiler.getMaxMillis(FrameProfiler.TOTAL));
+		}
+	}
+
+}
@@ -1,12 +1,11 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
 public class HeartDisplay {
 	
-	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
+	private static final String HEART_IMAGE_NAME = "heart.png";
 	private static final int HEART_HEIGHT = 50;
 	private static final int INDEX_OF_FIRST_ITEM = 0;
 	private HBox container;
@@ -29,9 +28,10 @@ public class HeartDisplay {
 	}
 	
 	private void initializeHearts() {
+		Sprite heartSprite = SpriteCache.getSprite(HEART_IMAGE_NAME);
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
-
+			ImageView heart = new ImageView();
+			heartSprite.applyTo(heart);
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
 			container.getChildren().add(heart);
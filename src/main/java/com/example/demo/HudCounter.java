@@ -0,0 +1,37 @@
+package com.example.demo;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.*;
+
+public class HudCounter extends Text {
+
+	private static final double FONT_SIZE = 20;
+	private final String label;
+	private int value;
+
+	public HudCounter(String label, double xPosition, double yPosition) {
+		this.label = label;
+		this.value = -1;
+		this.setLayoutX(xPosition);
+		this.setLayoutY(yPosition);
+		this.setFont(Font.font("Monospaced", FontWeight.BOLD, FONT_SIZE));
+		this.setFill(Color.WHITE);
+		this.setStroke(Color.BLACK);
+		this.setStrokeWidth(0.5);
+		this.setMouseTransparent(true);
+		setValue(0);
+	}
+
+	// Only touches the node when the value actually changes.
+	public void setValue(int value) {
+		if (this.value != value) {
+			this.value = value;
+			setText(label + value);
+		}
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.example.demo;
+
+public enum InputAction {
+
+	MOVE_UP,
+	MOVE_DOWN,
+	STOP,
+	FIRE
+
+}
@@ -0,0 +1,16 @@
+package com.example.demo;
+
+public final class KillCountChanged extends GameEvent {
+
+	private final int numberOfKills;
+
+	public KillCountChanged(long tick, int numberOfKills) {
+		super(tick);
+		this.numberOfKills = numberOfKills;
+	}
+
+	public int getNumberOfKills() {
+		return numberOfKills;
+	}
+
+}
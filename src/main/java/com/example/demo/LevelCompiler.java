@@ -0,0 +1,31 @@
+package com.example.demo;
+
+import java.io.*;
+import java.nio.file.*;
+
+public final class LevelCompiler {
+
+	private LevelCompiler() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: LevelCompiler <level" + LevelFormat.TEXT_EXTENSION + ">...");
+			System.exit(2);
+		}
+		for (String arg : args) {
+			Path source = Paths.get(arg);
+			String fileName = source.getFileName().toString();
+			if (fileName.endsWith(LevelFormat.TEXT_EXTENSION)) {
+				fileName = fileName.substring(0, fileName.length() - LevelFormat.TEXT_EXTENSION.length());
+			}
+			Path target = source.resolveSibling(fileName + LevelFormat.BINARY_EXTENSION);
+			try (LevelDefinition definition = LevelFormat.readText(Files.newInputStream(source), arg);
+					OutputStream out = Files.newOutputStream(target)) {
+				LevelFormat.writeBinary(definition, out);
+			}
+			System.out.printf("%s -> %s (%d bytes)%n", source, target, Files.size(target));
+		}
+	}
+
+}
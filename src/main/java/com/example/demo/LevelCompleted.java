@@ -0,0 +1,16 @@
+package com.example.demo;
+
+public final class LevelCompleted extends GameEvent {
+
+	private final String nextLevelName;
+
+	public LevelCompleted(long tick, String nextLevelName) {
+		super(tick);
+		this.nextLevelName = nextLevelName;
+	}
+
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+}
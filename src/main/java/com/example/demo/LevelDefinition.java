@@ -0,0 +1,105 @@
+package com.example.demo;
+
+import java.io.*;
+
+public final class LevelDefinition implements Closeable {
+
+	public interface WaveSource extends Closeable {
+
+		// Returns null once every wave has been read.
+		SpawnWave nextWave() throws IOException;
+
+	}
+
+	public static final int NO_SPAWNER = -1;
+	private final String name;
+	private final String backgroundImageName;
+	private final int playerHealth;
+	private final String nextLevelName;
+	private final WinCondition winCondition;
+	private final int killTarget;
+	private final EnemyArchetype[] archetypes;
+	private final int spawnerArchetype;
+	private final int spawnerMaxEnemies;
+	private final double spawnerChance;
+	private final WaveSource waves;
+
+	LevelDefinition(String name, String backgroundImageName, int playerHealth, String nextLevelName,
+			WinCondition winCondition, int killTarget, EnemyArchetype[] archetypes, int spawnerArchetype,
+			int spawnerMaxEnemies, double spawnerChance, WaveSource waves) {
+		this.name = name;
+		this.backgroundImageName = backgroundImageName;
+		this.playerHealth = playerHealth;
+		this.nextLevelName = nextLevelName;
+		this.winCondition = winCondition;
+		this.killTarget = killTarget;
+		this.archetypes = archetypes;
+		this.spawnerArchetype = spawnerArchetype;
+		this.spawnerMaxEnemies = spawnerMaxEnemies;
+		this.spawnerChance = spawnerChance;
+		this.waves = waves;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
+	public int getPlayerHealth() {
+		return playerHealth;
+	}
+
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+	public WinCondition getWinCondition() {
+		return winCondition;
+	}
+
+	public int getKillTarget() {
+		return killTarget;
+	}
+
+	public int getArchetypeCount() {
+		return archetypes.length;
+	}
+
+	public EnemyArchetype getArchetype(int index) {
+		return archetypes[index];
+	}
+
+	public boolean hasArchetype(EnemyKind kind) {
+		for (EnemyArchetype archetype : archetypes) {
+			if (archetype.getKind() == kind) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int getSpawnerArchetype() {
+		return spawnerArchetype;
+	}
+
+	public int getSpawnerMaxEnemies() {
+		return spawnerMaxEnemies;
+	}
+
+	public double getSpawnerChance() {
+		return spawnerChance;
+	}
+
+	public SpawnWave nextWave() throws IOException {
+		return waves.nextWave();
+	}
+
+	@Override
+	public void close() throws IOException {
+		waves.close();
+	}
+
+}
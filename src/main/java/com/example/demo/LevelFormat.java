@@ -0,0 +1,411 @@
+package com.example.demo;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public final class LevelFormat {
+
+	public static final String TEXT_EXTENSION = ".level";
+	public static final String BINARY_EXTENSION = ".lvlb";
+	static final String LEVEL_LOCATION = "/com/example/demo/levels/";
+	static final int MAGIC = 0x534B594C;
+	static final int VERSION = 2;
+	static final int WAVE_RECORD = 0x01;
+	static final int END_RECORD = 0x7F;
+	private static final int INITIAL_WAVE_CAPACITY = 16;
+
+	private LevelFormat() {
+	}
+
+	// Prefers the compiled binary form; returns null when no definition exists under that name.
+	public static LevelDefinition open(String levelName) throws IOException {
+		InputStream binary = LevelFormat.class.getResourceAsStream(LEVEL_LOCATION + levelName + BINARY_EXTENSION);
+		if (binary != null) {
+			return readBinary(binary);
+		}
+		InputStream text = LevelFormat.class.getResourceAsStream(LEVEL_LOCATION + levelName + TEXT_EXTENSION);
+		if (text != null) {
+			return readText(text, levelName + TEXT_EXTENSION);
+		}
+		return null;
+	}
+
+	// Reads the header eagerly; waves are parsed one at a time as the level asks for them.
+	public static LevelDefinition readText(InputStream stream, String sourceName) throws IOException {
+		TextWaveSource source = new TextWaveSource(
+				new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)), sourceName);
+		try {
+			return source.readHeader();
+		} catch (IOException | RuntimeException e) {
+			source.close();
+			throw e;
+		}
+	}
+
+	// Written this way round so NaN is rejected too.
+	private static boolean isSpawnPosition(double yFraction) {
+		return yFraction >= 0 && yFraction <= 1;
+	}
+
+	private static BossScript parseBossScript(String source) {
+		BossScript script = BossScript.parse(source);
+		Boss.checkScript(script);
+		return script;
+	}
+
+	public static LevelDefinition readBinary(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		try {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a level definition");
+			}
+			int version = in.readUnsignedByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported level definition version " + version);
+			}
+			String name = in.readUTF();
+			String backgroundImageName = in.readUTF();
+			int playerHealth = (int) VarInts.readVarLong(in);
+			String nextLevelName = in.readUTF();
+			WinCondition winCondition = WinCondition.values()[in.readUnsignedByte()];
+			int killTarget = (int) VarInts.readVarLong(in);
+			EnemyArchetype[] archetypes = new EnemyArchetype[(int) VarInts.readVarLong(in)];
+			for (int i = 0; i < archetypes.length; i++) {
+				String archetypeName = in.readUTF();
+				EnemyKind kind = EnemyKind.values()[in.readUnsignedByte()];
+				int health = (int) VarInts.readVarLong(in);
+				double fireRate = in.readDouble();
+				double speed = in.readDouble();
+				String script = in.readUTF();
+				try {
+					archetypes[i] = new EnemyArchetype(archetypeName, kind, health, fireRate, speed,
+							script.isEmpty() ? null : parseBossScript(script));
+				} catch (IllegalArgumentException e) {
+					throw new IOException("Invalid script for archetype '" + archetypeName + "': " + e.getMessage(), e);
+				}
+			}
+			int spawnerArchetype = LevelDefinition.NO_SPAWNER;
+			int spawnerMaxEnemies = 0;
+			double spawnerChance = 0;
+			if (in.readBoolean()) {
+				spawnerArchetype = (int) VarInts.readVarLong(in);
+				spawnerMaxEnemies = (int) VarInts.readVarLong(in);
+				spawnerChance = in.readDouble();
+			}
+			return new LevelDefinition(name, backgroundImageName, playerHealth,
+					nextLevelName.isEmpty() ? null : nextLevelName, winCondition, killTarget, archetypes,
+					spawnerArchetype, spawnerMaxEnemies, spawnerChance, new BinaryWaveSource(in, archetypes.length));
+		} catch (IOException | RuntimeException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	// Drains the definition's waves, so it is written in one pass without holding every wave in memory.
+	public static void writeBinary(LevelDefinition definition, OutputStream stream) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeUTF(definition.getName());
+		out.writeUTF(definition.getBackgroundImageName());
+		VarInts.writeVarLong(out, definition.getPlayerHealth());
+		out.writeUTF(definition.getNextLevelName() == null ? "" : definition.getNextLevelName());
+		out.writeByte(definition.getWinCondition().ordinal());
+		VarInts.writeVarLong(out, definition.getKillTarget());
+		VarInts.writeVarLong(out, definition.getArchetypeCount());
+		for (int i = 0; i < definition.getArchetypeCount(); i++) {
+			EnemyArchetype archetype = definition.getArchetype(i);
+			out.writeUTF(archetype.getName());
+			out.writeByte(archetype.getKind().ordinal());
+			VarInts.writeVarLong(out, archetype.getHealth());
+			out.writeDouble(archetype.getFireRate());
+			out.writeDouble(archetype.getSpeed());
+			out.writeUTF(archetype.getScript() == null ? "" : archetype.getScript().getSource());
+		}
+		boolean hasSpawner = definition.getSpawnerArchetype() != LevelDefinition.NO_SPAWNER;
+		out.writeBoolean(hasSpawner);
+		if (hasSpawner) {
+			VarInts.writeVarLong(out, definition.getSpawnerArchetype());
+			VarInts.writeVarLong(out, definition.getSpawnerMaxEnemies());
+			out.writeDouble(definition.getSpawnerChance());
+		}
+		SpawnWave wave;
+		while ((wave = definition.nextWave()) != null) {
+			out.writeByte(WAVE_RECORD);
+			VarInts.writeVarLong(out, wave.getStartTick());
+			VarInts.writeVarLong(out, wave.size());
+			int previousOffset = 0;
+			for (int i = 0; i < wave.size(); i++) {
+				VarInts.writeVarLong(out, wave.getTickOffset(i) - previousOffset);
+				VarInts.writeVarLong(out, wave.getArchetype(i));
+				out.writeDouble(wave.getPosition(i));
+				previousOffset = wave.getTickOffset(i);
+			}
+		}
+		out.writeByte(END_RECORD);
+		out.flush();
+	}
+
+	private static class BinaryWaveSource implements LevelDefinition.WaveSource {
+
+		private final DataInputStream in;
+		private final int archetypeCount;
+		private boolean finished;
+
+		private BinaryWaveSource(DataInputStream in, int archetypeCount) {
+			this.in = in;
+			this.archetypeCount = archetypeCount;
+		}
+
+		@Override
+		public SpawnWave nextWave() throws IOException {
+			if (finished) {
+				return null;
+			}
+			int record = in.readUnsignedByte();
+			if (record == END_RECORD) {
+				finished = true;
+				return null;
+			}
+			if (record != WAVE_RECORD) {
+				throw new IOException("Unknown level record 0x" + Integer.toHexString(record));
+			}
+			int startTick = (int) VarInts.readVarLong(in);
+			int size = (int) VarInts.readVarLong(in);
+			int[] tickOffsets = new int[size];
+			int[] archetypes = new int[size];
+			double[] positions = new double[size];
+			int offset = 0;
+			for (int i = 0; i < size; i++) {
+				offset += (int) VarInts.readVarLong(in);
+				tickOffsets[i] = offset;
+				archetypes[i] = (int) VarInts.readVarLong(in);
+				if (archetypes[i] >= archetypeCount) {
+					throw new IOException("Unknown archetype index " + archetypes[i]);
+				}
+				positions[i] = in.readDouble();
+				if (!isSpawnPosition(positions[i])) {
+					throw new IOException("Spawn position " + positions[i] + " is outside [0, 1]");
+				}
+			}
+			return new SpawnWave(startTick, size, tickOffsets, archetypes, positions);
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+
+	}
+
+	private static class TextWaveSource implements LevelDefinition.WaveSource {
+
+		private final BufferedReader reader;
+		private final String sourceName;
+		private final Map<String, Integer> archetypeIndices;
+		private int lineNumber;
+		private String[] pendingWave;
+		private int previousWaveStart;
+
+		private TextWaveSource(BufferedReader reader, String sourceName) {
+			this.reader = reader;
+			this.sourceName = sourceName;
+			this.archetypeIndices = new HashMap<>();
+			this.previousWaveStart = -1;
+		}
+
+		private LevelDefinition readHeader() throws IOException {
+			String name = null;
+			String backgroundImageName = null;
+			int playerHealth = 0;
+			String nextLevelName = null;
+			WinCondition winCondition = WinCondition.CLEARED;
+			int killTarget = 0;
+			List<EnemyArchetype> archetypes = new ArrayList<>();
+			int spawnerArchetype = LevelDefinition.NO_SPAWNER;
+			int spawnerMaxEnemies = 0;
+			double spawnerChance = 0;
+			String[] tokens;
+			while ((tokens = nextDirective()) != null) {
+				switch (tokens[0]) {
+					case "level":
+						name = argument(tokens, 1);
+						break;
+					case "background":
+						backgroundImageName = argument(tokens, 1);
+						break;
+					case "health":
+						playerHealth = parseInt(tokens, 1);
+						break;
+					case "next":
+						nextLevelName = argument(tokens, 1);
+						break;
+					case "win":
+						winCondition = parseEnum(WinCondition.class, tokens, 1);
+						if (winCondition == WinCondition.KILLS) {
+							killTarget = parseInt(tokens, 2);
+						}
+						break;
+					case "archetype":
+						archetypeIndices.put(argument(tokens, 1), archetypes.size());
+						archetypes.add(new EnemyArchetype(argument(tokens, 1), parseEnum(EnemyKind.class, tokens, 2),
+								parseInt(tokens, 3), parseDouble(tokens, 4), parseDouble(tokens, 5)));
+						break;
+					case "script":
+						int scripted = parseArchetype(tokens, 1);
+						EnemyArchetype archetype = archetypes.get(scripted);
+						if (archetype.getKind() != EnemyKind.BOSS) {
+							throw error("Only boss archetypes take a script");
+						}
+						archetypes.set(scripted, new EnemyArchetype(archetype.getName(), archetype.getKind(),
+								archetype.getHealth(), archetype.getFireRate(), archetype.getSpeed(), parseScript(tokens, 2)));
+						break;
+					case "spawner":
+						spawnerArchetype = parseArchetype(tokens, 1);
+						spawnerMaxEnemies = parseInt(tokens, 2);
+						spawnerChance = parseDouble(tokens, 3);
+						break;
+					case "wave":
+						pendingWave = tokens;
+						return createDefinition(name, backgroundImageName, playerHealth, nextLevelName, winCondition,
+								killTarget, archetypes, spawnerArchetype, spawnerMaxEnemies, spawnerChance);
+					default:
+						throw error("Unknown directive '" + tokens[0] + "'");
+				}
+			}
+			return createDefinition(name, backgroundImageName, playerHealth, nextLevelName, winCondition, killTarget,
+					archetypes, spawnerArchetype, spawnerMaxEnemies, spawnerChance);
+		}
+
+		private LevelDefinition createDefinition(String name, String backgroundImageName, int playerHealth,
+				String nextLevelName, WinCondition winCondition, int killTarget, List<EnemyArchetype> archetypes,
+				int spawnerArchetype, int spawnerMaxEnemies, double spawnerChance) throws IOException {
+			if (name == null || backgroundImageName == null || playerHealth <= 0) {
+				throw error("'level', 'background' and 'health' are required before the first wave");
+			}
+			return new LevelDefinition(name, backgroundImageName, playerHealth, nextLevelName, winCondition,
+					killTarget, archetypes.toArray(new EnemyArchetype[0]), spawnerArchetype, spawnerMaxEnemies,
+					spawnerChance, this);
+		}
+
+		@Override
+		public SpawnWave nextWave() throws IOException {
+			if (pendingWave == null) {
+				return null;
+			}
+			int startTick = parseInt(pendingWave, 1);
+			if (startTick < previousWaveStart) {
+				throw error("Waves must be in start order");
+			}
+			previousWaveStart = startTick;
+			pendingWave = null;
+			int size = 0;
+			int[] tickOffsets = new int[INITIAL_WAVE_CAPACITY];
+			int[] archetypes = new int[INITIAL_WAVE_CAPACITY];
+			double[] positions = new double[INITIAL_WAVE_CAPACITY];
+			String[] tokens;
+			while ((tokens = nextDirective()) != null) {
+				if (tokens[0].equals("wave")) {
+					pendingWave = tokens;
+					break;
+				}
+				if (!tokens[0].equals("spawn")) {
+					throw error("Only 'spawn' may follow 'wave', found '" + tokens[0] + "'");
+				}
+				if (size == tickOffsets.length) {
+					tickOffsets = Arrays.copyOf(tickOffsets, size * 2);
+					archetypes = Arrays.copyOf(archetypes, size * 2);
+					positions = Arrays.copyOf(positions, size * 2);
+				}
+				tickOffsets[size] = parseInt(tokens, 1);
+				if (tickOffsets[size] < 0 || (size > 0 && tickOffsets[size] < tickOffsets[size - 1])) {
+					throw error("Spawns must be in tick order within a wave");
+				}
+				archetypes[size] = parseArchetype(tokens, 2);
+				positions[size] = parseDouble(tokens, 3);
+				if (!isSpawnPosition(positions[size])) {
+					throw error("Spawn positions must be between 0 and 1, found " + tokens[3]);
+				}
+				size++;
+			}
+			return new SpawnWave(startTick, size, tickOffsets, archetypes, positions);
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+
+		private String[] nextDirective() throws IOException {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				int comment = line.indexOf('#');
+				if (comment >= 0) {
+					line = line.substring(0, comment);
+				}
+				line = line.trim();
+				if (!line.isEmpty()) {
+					return line.split("\\s+");
+				}
+			}
+			return null;
+		}
+
+		private String argument(String[] tokens, int index) throws IOException {
+			if (index >= tokens.length) {
+				throw error("'" + tokens[0] + "' is missing argument " + index);
+			}
+			return tokens[index];
+		}
+
+		private int parseInt(String[] tokens, int index) throws IOException {
+			try {
+				return Integer.parseInt(argument(tokens, index));
+			} catch (NumberFormatException e) {
+				throw error("Expected an integer, found '" + tokens[index] + "'");
+			}
+		}
+
+		private double parseDouble(String[] tokens, int index) throws IOException {
+			try {
+				return Double.parseDouble(argument(tokens, index));
+			} catch (NumberFormatException e) {
+				throw error("Expected a number, found '" + tokens[index] + "'");
+			}
+		}
+
+		private <E extends Enum<E>> E parseEnum(Class<E> type, String[] tokens, int index) throws IOException {
+			try {
+				return Enum.valueOf(type, argument(tokens, index).toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw error("Unknown " + type.getSimpleName() + " '" + tokens[index] + "'");
+			}
+		}
+
+		// The rest of the line is the script, with ';' between instructions.
+		private BossScript parseScript(String[] tokens, int index) throws IOException {
+			argument(tokens, index);
+			try {
+				return parseBossScript(String.join(" ", Arrays.copyOfRange(tokens, index, tokens.length)));
+			} catch (IllegalArgumentException e) {
+				throw error(e.getMessage());
+			}
+		}
+
+		private int parseArchetype(String[] tokens, int index) throws IOException {
+			Integer archetype = archetypeIndices.get(argument(tokens, index));
+			if (archetype == null) {
+				throw error("Unknown archetype '" + tokens[index] + "'");
+			}
+			return archetype;
+		}
+
+		private IOException error(String message) {
+			return new IOException(sourceName + ":" + lineNumber + ": " + message);
+		}
+
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.example.demo;
+
+public interface LevelListener {
+
+	LevelListener NONE = new LevelListener() {
+	};
+
+	default void actorAdded(ActiveActorDestructible actor) {
+	}
+
+	default void actorRemoved(ActiveActorDestructible actor) {
+	}
+
+	default void levelWon() {
+	}
+
+	default void levelLost() {
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.demo;
+
+public class LevelLoadMetrics {
+
+	private static final double NANOSECONDS_PER_MILLISECOND = 1_000_000.0;
+	private volatile long lastLoadNanos;
+	private volatile long lastStallNanos;
+	private volatile long maxStallNanos;
+	private volatile int preloadHits;
+	private volatile int preloadMisses;
+
+	public void recordLoad(long loadNanos) {
+		lastLoadNanos = loadNanos;
+	}
+
+	public void recordStall(long stallNanos, boolean preloaded) {
+		lastStallNanos = stallNanos;
+		maxStallNanos = Math.max(maxStallNanos, stallNanos);
+		if (preloaded) {
+			preloadHits++;
+		} else {
+			preloadMisses++;
+		}
+	}
+
+	public double getLastLoadMillis() {
+		return lastLoadNanos / NANOSECONDS_PER_MILLISECOND;
+	}
+
+	public double getLastStallMillis() {
+		return lastStallNanos / NANOSECONDS_PER_MILLISECOND;
+	}
+
+	public double getMaxStallMillis() {
+		return maxStallNanos / NANOSECONDS_PER_MILLISECOND;
+	}
+
+	public int getPreloadHits() {
+		return preloadHits;
+	}
+
+	public int getPreloadMisses() {
+		return preloadMisses;
+	}
+
+}
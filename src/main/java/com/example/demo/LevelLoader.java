@@ -0,0 +1,37 @@
+package com.example.demo;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+
+public final class LevelLoader {
+
+	private LevelLoader() {
+	}
+
+	// Level definitions on the classpath take precedence; anything else is treated as a LevelParent class name.
+	public static LevelParent createLevel(String levelName, double screenHeight, double screenWidth,
+			long seed)
+			throws ReflectiveOperationException {
+		LevelDefinition definition;
+		try {
+			definition = LevelFormat.open(levelName);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (definition != null) {
+			return new DataDrivenLevel(definition, screenHeight, screenWidth, seed);
+		}
+		Class<?> levelClass = Class.forName(levelName);
+		Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, long.class);
+		return (LevelParent) constructor.newInstance(screenHeight, screenWidth, seed);
+	}
+
+	public static LevelParent loadLevel(String levelName, double screenHeight, double screenWidth,
+			long seed)
+			throws ReflectiveOperationException {
+		LevelParent level = createLevel(levelName, screenHeight, screenWidth, seed);
+		SpriteCache.getSprite(level.getBackgroundImageName());
+		return level;
+	}
+
+}
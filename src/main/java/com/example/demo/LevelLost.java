@@ -0,0 +1,9 @@
+package com.example.demo;
+
+public final class LevelLost extends GameEvent {
+
+	public LevelLost(long tick) {
+		super(tick);
+	}
+
+}
@@ -1,147 +1,403 @@
 package com.example.demo;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
-import javafx.animation.*;
-import javafx.event.EventHandler;
 import javafx.scene.Group;
-import javafx.scene.Scene;
-import javafx.scene.image.*;
-import javafx.scene.input.*;
-import javafx.util.Duration;
+import com.example.demo.metrics.*;
+import com.example.demo.metrics.jfr.*;
 
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final double CULLING_MARGIN = 100;
+	private static final TickStage[] TICK_STAGES = TickStage.values();
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 
-	private final Group root;
-	private final Timeline timeline;
+	private final String levelName;
+	private final String backgroundImageName;
+	private final int playerInitialHealth;
 	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
-
-	private final List<ActiveActorDestructible> friendlyUnits;
-	private final List<ActiveActorDestructible> enemyUnits;
-	private final List<ActiveActorDestructible> userProjectiles;
-	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final ViewportCuller viewportCuller;
+	private final RandomService random;
+	private final GameEventBus eventBus;
+	private final PlaneListener planeEvents;
+
+	private final ActorStore friendlyUnits;
+	private final ActorStore enemyUnits;
+	private final ActorStore userProjectiles;
+	private final ActorStore enemyProjectiles;
 	
 	private int currentNumberOfEnemies;
-	private LevelView levelView;
+	private CollisionEngine collisionEngine;
+	private LevelListener levelListener;
+	private int actorsCulledLastFrame;
+	private LevelState state;
+	private long tickCount;
+	private ReplayRecorder replayRecorder;
+	private FrameProfiler frameProfiler;
+	private TickExecutor tickExecutor;
+	private boolean[] enemyFireDecisions;
+	private final TickExecutor.ChunkTask enemyFireDecisionTask = (chunk, from, to) -> decideEnemyFire(from, to);
+	private final BulletEmitter.BulletSink bulletSink = this::spawnPatternBullet;
+
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+			long seed) {
+		this(null, backgroundImageName, screenHeight, screenWidth, playerInitialHealth, seed);
+	}
 
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
+	// Levels loaded from a definition share a class, so they name themselves; coded levels use their class name.
+	protected LevelParent(String levelName, String backgroundImageName, double screenHeight, double screenWidth,
+			int playerInitialHealth, long seed) {
+		this.levelName = levelName != null ? levelName : getClass().getSimpleName();
+		this.backgroundImageName = backgroundImageName;
+		this.playerInitialHealth = playerInitialHealth;
 		this.user = new UserPlane(playerInitialHealth);
-		this.friendlyUnits = new ArrayList<>();
-		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
+		this.friendlyUnits = new ActorStore();
+		this.enemyUnits = new ActorStore();
+		this.userProjectiles = new ActorStore();
+		this.enemyProjectiles = new ActorStore();
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
+		this.viewportCuller = new ViewportCuller(screenWidth, screenHeight, CULLING_MARGIN);
+		this.random = new RandomService(seed);
+		this.eventBus = new GameEventBus();
+		this.planeEvents = createPlaneEvents();
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
+		this.tickExecutor = GameSettings.createTickExecutor();
+		this.collisionEngine = CollisionEngine.create(GameSettings.getCollisionEngine());
+		this.collisionEngine.setTickExecutor(tickExecutor);
+		this.enemyFireDecisions = new boolean[0];
+		this.levelListener = LevelListener.NONE;
+		this.state = LevelState.LOADING;
 		friendlyUnits.add(user);
+		attachPlaneEvents(user);
 	}
 
-	protected abstract void initializeFriendlyUnits();
-
 	protected abstract void checkIfGameOver();
 
 	protected abstract void spawnEnemyUnits();
 
-	protected abstract LevelView instantiateLevelView();
+	protected abstract LevelView instantiateLevelView(Group root);
+
+	public void start() {
+		if (state == LevelState.LOADING) {
+			state = LevelState.RUNNING;
+		}
+	}
+
+	public void pause() {
+		if (state == LevelState.RUNNING) {
+			state = LevelState.PAUSED;
+		}
+	}
+
+	public void resume() {
+		if (state == LevelState.PAUSED) {
+			state = LevelState.RUNNING;
+		}
+	}
+
+	public void tick() {
+		if (state == LevelState.RUNNING) {
+			long tickStart = System.nanoTime();
+			TickEvent tickEvent = null;
+			if (FlightRecording.isActive() && TickEvent.isRecording()) {
+				tickEvent = new TickEvent();
+				tickEvent.begin();
+			}
+			updateScene();
+			eventBus.dispatchQueued();
+			if (tickEvent != null) {
+				commitTickEvent(tickEvent);
+			}
+			GameMetrics.getInstance().recordTick(levelName, tickCount, System.nanoTime() - tickStart,
+					enemyUnits.size(), userProjectiles.size(), enemyProjectiles.size(), user.getNumberOfKills());
+			if (replayRecorder != null) {
+				replayRecorder.tickCompleted(this);
+			}
+			if (isFinished()) {
+				closeReplayRecorder();
+			}
+		}
+	}
+
+	public void dispose() {
+		if (state == LevelState.DISPOSED) {
+			return;
+		}
+		state = LevelState.DISPOSED;
+		recycleAllActors();
+		removeAllActors();
+		eventBus.clear();
+		levelListener = LevelListener.NONE;
+		tickExecutor.close();
+		closeReplayRecorder();
+	}
+
+	public void setLevelListener(LevelListener levelListener) {
+		this.levelListener = levelListener;
+	}
+
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	// Planes report health, kill and shield changes here, and the level republishes them as typed events.
+	protected void attachPlaneEvents(FighterPlane plane) {
+		plane.setPlaneListener(planeEvents);
+	}
+
+	private PlaneListener createPlaneEvents() {
+		return new PlaneListener() {
+			@Override
+			public void healthChanged(FighterPlane plane, int health) {
+				if (plane == user && eventBus.hasListeners(PlayerDamaged.class)) {
+					eventBus.publish(new PlayerDamaged(tickCount, health));
+				}
+			}
+
+			@Override
+			public void killCountChanged(int numberOfKills) {
+				if (eventBus.hasListeners(KillCountChanged.class)) {
+					eventBus.publish(new KillCountChanged(tickCount, numberOfKills));
+				}
+			}
+
+			@Override
+			public void shieldChanged(FighterPlane plane, boolean shielded) {
+				if (eventBus.hasListeners(ShieldChanged.class)) {
+					eventBus.publish(new ShieldChanged(tickCount, plane, shielded));
+				}
+			}
+		};
+	}
+
+	public void setFrameProfiler(FrameProfiler frameProfiler) {
+		this.frameProfiler = frameProfiler;
+	}
+
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+
+	public void setReplayRecorder(ReplayRecorder replayRecorder) {
+		this.replayRecorder = replayRecorder;
+	}
+
+	public CollisionEngine getCollisionEngine() {
+		return collisionEngine;
+	}
 
-	public Scene initializeScene() {
-		initializeBackground();
-		initializeFriendlyUnits();
-		levelView.showHeartDisplay();
-		return scene;
+	public void setCollisionEngine(CollisionEngine collisionEngine) {
+		this.collisionEngine = collisionEngine;
+		collisionEngine.setTickExecutor(tickExecutor);
 	}
 
-	public void startGame() {
-		background.requestFocus();
-		timeline.play();
+	public void setTickExecutor(TickExecutor tickExecutor) {
+		this.tickExecutor.close();
+		this.tickExecutor = tickExecutor;
+		collisionEngine.setTickExecutor(tickExecutor);
 	}
 
 	public void goToNextLevel(String levelName) {
-		setChanged();
-		notifyObservers(levelName);
+		if (state != LevelState.RUNNING) {
+			return;
+		}
+		state = LevelState.FINISHED;
+		eventBus.publish(new LevelCompleted(tickCount, levelName));
+	}
+
+	public void runStage(TickStage stage) {
+		switch (stage) {
+			case SPAWN:
+				spawnEnemyUnits();
+				break;
+			case UPDATE_ACTORS:
+				savePreviousPositions();
+				updateActors();
+				break;
+			case ENEMY_FIRE:
+				generateEnemyFire();
+				break;
+			case CULLING:
+				cullOffscreenProjectiles();
+				break;
+			case PENETRATION:
+				updateNumberOfEnemies();
+				handleEnemyPenetration();
+				break;
+			case USER_PROJECTILE_COLLISIONS:
+				handleUserProjectileCollisions();
+				break;
+			case ENEMY_PROJECTILE_COLLISIONS:
+				handleEnemyProjectileCollisions();
+				break;
+			case PLANE_COLLISIONS:
+				handlePlaneCollisions();
+				break;
+			case REMOVAL:
+				removeAllDestroyedActors();
+				break;
+			case KILL_COUNT:
+				updateKillCount();
+				break;
+			case GAME_OVER_CHECK:
+				checkIfGameOver();
+				break;
+		}
+	}
+
+	private void commitTickEvent(TickEvent tickEvent) {
+		tickEvent.level = levelName;
+		tickEvent.tick = tickCount - 1;
+		tickEvent.enemyUnits = enemyUnits.size();
+		tickEvent.userProjectiles = userProjectiles.size();
+		tickEvent.enemyProjectiles = enemyProjectiles.size();
+		tickEvent.commit();
+	}
+
+	private void closeReplayRecorder() {
+		if (replayRecorder != null) {
+			replayRecorder.close(tickCount);
+			replayRecorder = null;
+		}
 	}
 
 	private void updateScene() {
-		spawnEnemyUnits();
-		updateActors();
-		generateEnemyFire();
-		updateNumberOfEnemies();
-		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
-		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
-		checkIfGameOver();
-	}
-
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
-	}
-
-	private void initializeBackground() {
-		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
-		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
-			}
-		});
-		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+		if (frameProfiler != null) {
+			updateSceneProfiled();
+		} else {
+			for (TickStage stage : TICK_STAGES) {
+				runStage(stage);
 			}
-		});
-		root.getChildren().add(background);
+		}
+		tickCount++;
 	}
 
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
+	private void updateSceneProfiled() {
+		long tickStart = System.nanoTime();
+		frameProfiler.beginFrame(tickCount);
+		long stageStart = tickStart;
+		for (TickStage stage : TICK_STAGES) {
+			runStage(stage);
+			long stageEnd = System.nanoTime();
+			frameProfiler.record(stage, stageEnd - stageStart);
+			stageStart = stageEnd;
+		}
+		frameProfiler.record(FrameProfiler.TOTAL, stageStart - tickStart);
+		frameProfiler.setCounter(FrameProfiler.FRIENDLY_UNITS, friendlyUnits.size());
+		frameProfiler.setCounter(FrameProfiler.ENEMY_UNITS, enemyUnits.size());
+		frameProfiler.setCounter(FrameProfiler.USER_PROJECTILES, userProjectiles.size());
+		frameProfiler.setCounter(FrameProfiler.ENEMY_PROJECTILES, enemyProjectiles.size());
+		frameProfiler.setCounter(FrameProfiler.CULLED_ACTORS, actorsCulledLastFrame);
+	}
+
+	private void savePreviousPositions() {
+		friendlyUnits.savePreviousPositions();
+		enemyUnits.savePreviousPositions();
+		userProjectiles.savePreviousPositions();
+		enemyProjectiles.savePreviousPositions();
+	}
+
+	public void handleInput(InputAction action) {
+		if (state != LevelState.RUNNING) {
+			return;
+		}
+		switch (action) {
+			case MOVE_UP:
+				user.moveUp();
+				break;
+			case MOVE_DOWN:
+				user.moveDown();
+				break;
+			case STOP:
+				user.stop();
+				break;
+			case FIRE:
+				fireProjectile();
+				break;
+		}
+		if (replayRecorder != null) {
+			replayRecorder.recordInput(tickCount, action);
+		}
+	}
+
+	public void fireProjectile() {
+		ActiveActorDestructible projectile = user.createProjectile();
+		addUserProjectile(projectile);
+		publishProjectileFired(projectile, true);
 	}
 
+	// Decisions run in parallel chunks; projectiles are created afterwards in enemy order.
 	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+		int enemyCount = enemyUnits.size();
+		if (enemyFireDecisions.length < enemyCount) {
+			enemyFireDecisions = new boolean[Math.max(enemyCount, enemyFireDecisions.length * 2)];
+		}
+		tickExecutor.forEachChunk(enemyCount, enemyFireDecisionTask);
+		for (int i = 0; i < enemyCount; i++) {
+			if (enemyFireDecisions[i]) {
+				ActiveActorDestructible projectile = ((FighterPlane) enemyUnits.get(i)).createProjectile();
+				spawnEnemyProjectile(projectile);
+				publishProjectileFired(projectile, false);
+			}
+		}
+		emitBulletPatterns();
+	}
+
+	private void emitBulletPatterns() {
+		double targetX = getUserCenterX();
+		double targetY = getUserCenterY();
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			BulletEmitter emitter = ((FighterPlane) enemyUnits.get(i)).getBulletEmitter();
+			if (emitter != null && emitter.isActive()) {
+				emitter.emit(targetX, targetY, bulletSink);
+			}
+		}
+	}
+
+	private void spawnPatternBullet(double x, double y, double velocityX, double velocityY, double turnRate,
+			int homingTicks) {
+		ActiveActorDestructible bullet = PatternBullet.obtain(x, y, velocityX, velocityY, turnRate, homingTicks);
+		spawnEnemyProjectile(bullet);
+		publishProjectileFired(bullet, false);
+	}
+
+	private void publishProjectileFired(ActiveActorDestructible projectile, boolean friendly) {
+		if (projectile != null && eventBus.hasListeners(ProjectileFired.class)) {
+			eventBus.publish(new ProjectileFired(tickCount, friendly, projectile.getLayoutX() + projectile.getTranslateX(),
+					projectile.getLayoutY() + projectile.getTranslateY()));
+		}
+	}
+
+	private void decideEnemyFire(int from, int to) {
+		for (int i = from; i < to; i++) {
+			double roll = random.roll(RandomStream.ENEMY_FIRE, tickCount, i);
+			enemyFireDecisions[i] = ((FighterPlane) enemyUnits.get(i)).firesInCurrentFrame(roll);
+		}
 	}
 
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
+	protected void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
 			enemyProjectiles.add(projectile);
+			notifyActorAdded(projectile);
 		}
 	}
 
 	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+		friendlyUnits.update(tickExecutor);
+		enemyUnits.update(tickExecutor);
+		userProjectiles.update(tickExecutor);
+		enemyProjectiles.steer(tickExecutor, getUserCenterX(), getUserCenterY());
+		enemyProjectiles.update(tickExecutor);
+	}
+
+	private void cullOffscreenProjectiles() {
+		actorsCulledLastFrame = viewportCuller.cull(userProjectiles) + viewportCuller.cull(enemyProjectiles);
 	}
 
 	private void removeAllDestroyedActors() {
@@ -151,95 +407,224 @@ public abstract class LevelParent extends Observable {
 		removeDestroyedActors(enemyProjectiles);
 	}
 
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	private void removeDestroyedActors(ActorStore actors) {
+		int removedActors = actors.removeDestroyed();
+		for (int i = 0; i < removedActors; i++) {
+			ActiveActorDestructible actor = actors.getRemoved(i);
+			levelListener.actorRemoved(actor);
+			if (FlightRecording.isActive() && ActorLifecycleEvent.isRecording()) {
+				ActorLifecycleEvent.emit(actor.getClass().getSimpleName(), ActorLifecycleEvent.DESTROYED, tickCount);
+			}
+			if (actors == enemyUnits && eventBus.hasListeners(EnemyDestroyed.class)) {
+				eventBus.publish(new EnemyDestroyed(tickCount, actor.getClass().getSimpleName(),
+						actor.getLayoutX() + actor.getTranslateX(), actor.getLayoutY() + actor.getTranslateY()));
+			}
+			actor.recycle();
+		}
 	}
 
 	private void handlePlaneCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
+		handleCollisions(TickStage.PLANE_COLLISIONS, friendlyUnits, enemyUnits);
 	}
 
 	private void handleUserProjectileCollisions() {
-		handleCollisions(userProjectiles, enemyUnits);
+		handleCollisions(TickStage.USER_PROJECTILE_COLLISIONS, userProjectiles, enemyUnits);
 	}
 
 	private void handleEnemyProjectileCollisions() {
-		handleCollisions(enemyProjectiles, friendlyUnits);
+		handleCollisions(TickStage.ENEMY_PROJECTILE_COLLISIONS, enemyProjectiles, friendlyUnits);
 	}
 
-	private void handleCollisions(List<ActiveActorDestructible> actors1,
-			List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
+	private void handleCollisions(TickStage pass, ActorStore actors1, ActorStore actors2) {
+		CollisionEvent collisionEvent = null;
+		if (FlightRecording.isActive() && CollisionEvent.isRecording()) {
+			collisionEvent = new CollisionEvent();
+			collisionEvent.begin();
+		}
+		int collisions = collisionEngine.handleCollisions(actors1, actors2);
+		if (collisionEvent != null) {
+			collisionEvent.pass = pass.name();
+			collisionEvent.tick = tickCount;
+			collisionEvent.collisions = collisions;
+			collisionEvent.commit();
 		}
 	}
 
 	private void handleEnemyPenetration() {
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
+		for (int i = 0; i < enemyUnits.size(); i++) {
+			if (enemyHasPenetratedDefenses(i)) {
 				user.takeDamage();
-				enemy.destroy();
+				enemyUnits.get(i).destroy();
 			}
 		}
 	}
 
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
-	}
-
 	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-			user.incrementKillCount();
+		int kills = currentNumberOfEnemies - enemyUnits.size();
+		if (kills > 0) {
+			user.incrementKillCount(kills);
 		}
 	}
 
-	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	private boolean enemyHasPenetratedDefenses(int slot) {
+		return Math.abs(enemyUnits.getTranslateX(slot)) > screenWidth;
 	}
 
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
+		state = LevelState.FINISHED;
+		levelListener.levelWon();
 	}
 
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
+		state = LevelState.FINISHED;
+		levelListener.levelLost();
+		if (eventBus.hasListeners(LevelLost.class)) {
+			eventBus.publish(new LevelLost(tickCount));
+		}
+	}
+
+	public long getSeed() {
+		return random.getSeed();
+	}
+
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	public long computeChecksum() {
+		long checksum = 31 * tickCount + user.getNumberOfKills();
+		checksum = friendlyUnits.checksum(checksum);
+		checksum = enemyUnits.checksum(checksum);
+		checksum = userProjectiles.checksum(checksum);
+		return enemyProjectiles.checksum(checksum);
+	}
+
+	protected RandomService getRandom() {
+		return random;
+	}
+
+	public LevelState getState() {
+		return state;
+	}
+
+	public boolean isFinished() {
+		return state == LevelState.FINISHED;
+	}
+
+	public String getNextLevelName() {
+		return null;
 	}
 
-	protected UserPlane getUser() {
+	public String getLevelName() {
+		return levelName;
+	}
+
+	public String getBackgroundImageName() {
+		return backgroundImageName;
+	}
+
+	public int getPlayerInitialHealth() {
+		return playerInitialHealth;
+	}
+
+	public List<ActiveActorDestructible> getActiveActors() {
+		List<ActiveActorDestructible> actors = new ArrayList<>();
+		friendlyUnits.addTo(actors);
+		enemyUnits.addTo(actors);
+		userProjectiles.addTo(actors);
+		enemyProjectiles.addTo(actors);
+		return actors;
+	}
+
+	public int getActorsCulledLastFrame() {
+		return actorsCulledLastFrame;
+	}
+
+	public UserPlane getUser() {
 		return user;
 	}
 
-	protected Group getRoot() {
-		return root;
+	private double getUserCenterX() {
+		return (user.getMinX() + user.getMaxX()) / 2;
+	}
+
+	private double getUserCenterY() {
+		return (user.getMinY() + user.getMaxY()) / 2;
 	}
 
 	protected int getCurrentNumberOfEnemies() {
 		return enemyUnits.size();
 	}
 
+	public int getUserProjectileCount() {
+		return userProjectiles.size();
+	}
+
+	public int getEnemyProjectileCount() {
+		return enemyProjectiles.size();
+	}
+
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		notifyActorAdded(enemy);
+	}
+
+	protected void addUserProjectile(ActiveActorDestructible projectile) {
+		userProjectiles.add(projectile);
+		notifyActorAdded(projectile);
+	}
+
+	protected void addFriendlyUnit(ActiveActorDestructible unit) {
+		friendlyUnits.add(unit);
+		notifyActorAdded(unit);
+	}
+
+	private void notifyActorAdded(ActiveActorDestructible actor) {
+		levelListener.actorAdded(actor);
+		if (FlightRecording.isActive() && ActorLifecycleEvent.isRecording()) {
+			ActorLifecycleEvent.emit(actor.getClass().getSimpleName(), ActorLifecycleEvent.SPAWNED, tickCount);
+		}
+	}
+
+	protected void removeAllActors() {
+		removeAllActors(friendlyUnits);
+		removeAllActors(enemyUnits);
+		removeAllActors(userProjectiles);
+		removeAllActors(enemyProjectiles);
+	}
+
+	private void removeAllActors(ActorStore actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			levelListener.actorRemoved(actors.get(i));
+		}
+		actors.clear();
+	}
+
+	private void recycleAllActors() {
+		recycleAllActors(friendlyUnits);
+		recycleAllActors(enemyUnits);
+		recycleAllActors(userProjectiles);
+		recycleAllActors(enemyProjectiles);
+	}
+
+	private void recycleAllActors(ActorStore actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).recycle();
+		}
 	}
 
 	protected double getEnemyMaximumYPosition() {
 		return enemyMaximumYPosition;
 	}
 
-	protected double getScreenWidth() {
+	public double getScreenWidth() {
 		return screenWidth;
 	}
 
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
 	protected boolean userIsDestroyed() {
 		return user.isDestroyed();
 	}
@@ -0,0 +1,210 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import javafx.event.EventHandler;
+import javafx.scene.*;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.*;
+import com.example.demo.metrics.GameMetrics;
+
+public class LevelScene implements LevelListener {
+
+	private static final int MILLISECOND_DELAY = 50;
+	private static final System.Logger LOGGER = System.getLogger(LevelScene.class.getName());
+	private final LevelParent level;
+	private final Group root;
+	private final Group actorLayer;
+	private final Scene scene;
+	private final ImageView background;
+	private final ActorRenderer renderer;
+	private final LevelView levelView;
+	private final GameLoop gameLoop;
+	private final FrameProfiler frameProfiler;
+	private final ProfilerOverlay profilerOverlay;
+	private final double tickSeconds;
+
+	public LevelScene(LevelParent level) {
+		this.level = level;
+		this.root = new Group();
+		this.scene = new Scene(root, level.getScreenWidth(), level.getScreenHeight());
+		this.background = new ImageView();
+		this.actorLayer = new Group();
+		this.renderer = ActorRenderer.create(GameSettings.getRenderer(level.getLevelName()), actorLayer,
+				level.getScreenWidth(), level.getScreenHeight());
+		initializeBackground();
+		root.getChildren().add(actorLayer);
+		this.levelView = level.instantiateLevelView(root);
+		this.gameLoop = initializeGameLoop();
+		this.frameProfiler = new FrameProfiler();
+		this.profilerOverlay = new ProfilerOverlay(frameProfiler);
+		if (GameSettings.isProfilerEnabled()) {
+			level.setFrameProfiler(frameProfiler);
+		}
+		this.tickSeconds = GameLoop.TIMELINE.equals(GameSettings.getGameLoop()) ? MILLISECOND_DELAY / 1000.0
+				: 1.0 / GameSettings.getLogicHz();
+		level.setLevelListener(this);
+		subscribeLevelView();
+	}
+
+	public Scene initializeScene() {
+		for (ActiveActorDestructible actor : level.getActiveActors()) {
+			renderer.add(actor);
+		}
+		levelView.showHeartDisplay();
+		levelView.showCounters();
+		root.getChildren().add(profilerOverlay);
+		return scene;
+	}
+
+	public void startGame() {
+		background.requestFocus();
+		level.start();
+		gameLoop.start();
+	}
+
+	public void togglePause() {
+		if (level.getState() == LevelState.RUNNING) {
+			level.pause();
+			gameLoop.stop();
+		} else if (level.getState() == LevelState.PAUSED) {
+			level.resume();
+			gameLoop.start();
+		}
+	}
+
+	public void dispose() {
+		gameLoop.stop();
+		level.dispose();
+		background.setOnKeyPressed(null);
+		background.setOnKeyReleased(null);
+		root.getChildren().clear();
+	}
+
+	public void toggleProfiler() {
+		boolean visible = profilerOverlay.toggle();
+		if (visible) {
+			level.setFrameProfiler(frameProfiler);
+		} else if (!GameSettings.isProfilerEnabled()) {
+			level.setFrameProfiler(null);
+		}
+	}
+
+	public void exportProfile() {
+		Path directory = GameSettings.getProfilerDirectory();
+		Path path = directory.resolve("frame-profile-" + level.getLevelName() + "-"
+				+ System.currentTimeMillis() + ".csv");
+		try {
+			Files.createDirectories(directory);
+			frameProfiler.writeCsv(path);
+			LOGGER.log(System.Logger.Level.INFO, "Frame profile written to {0}", path);
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not write frame profile to " + path, e);
+		}
+	}
+
+	public int getNodeCount() {
+		return countNodes(root);
+	}
+
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	@Override
+	public void actorAdded(ActiveActorDestructible actor) {
+		renderer.add(actor);
+	}
+
+	@Override
+	public void actorRemoved(ActiveActorDestructible actor) {
+		renderer.remove(actor);
+		levelView.actorRemoved(actor);
+	}
+
+	@Override
+	public void levelWon() {
+		gameLoop.stop();
+		levelView.showWinImage();
+	}
+
+	@Override
+	public void levelLost() {
+		gameLoop.stop();
+		levelView.showGameOverImage();
+	}
+
+	// HUD updates are queued so nodes are only touched once the tick that caused them has finished.
+	private void subscribeLevelView() {
+		GameEventBus eventBus = level.getEventBus();
+		eventBus.subscribeQueued(PlayerDamaged.class, event -> levelView.removeHearts(event.getHealth()));
+		eventBus.subscribeQueued(KillCountChanged.class, event -> levelView.updateKills(event.getNumberOfKills()));
+		eventBus.subscribeQueued(ShieldChanged.class, event -> levelView.updateShield(event.getPlane(), event.isShielded()));
+		levelView.removeHearts(level.getUser().getHealth());
+		levelView.updateKills(level.getUser().getNumberOfKills());
+	}
+
+	private GameLoop initializeGameLoop() {
+		if (GameLoop.TIMELINE.equals(GameSettings.getGameLoop())) {
+			return new TimelineGameLoop(MILLISECOND_DELAY, () -> {
+				level.tick();
+				render(1);
+			});
+		}
+		return new FixedTimestepGameLoop(GameSettings.getLogicHz(), GameSettings.getMaxCatchUpSteps(), level::tick,
+				this::render);
+	}
+
+	private void render(double alpha) {
+		long renderStart = System.nanoTime();
+		renderer.render(alpha);
+		levelView.updateOverlays(alpha);
+		levelView.updateClock((int) (level.getTickCount() * tickSeconds),
+				(int) Math.round(GameMetrics.getInstance().getFramesPerSecond()));
+		recordViewUpdate(renderStart);
+		frameProfiler.setCounter(FrameProfiler.SCENE_NODES, actorLayer.getChildren().size());
+		profilerOverlay.refresh(renderStart);
+		GameMetrics.getInstance().recordFrame(renderStart, root.getChildren().size());
+	}
+
+	private void recordViewUpdate(long start) {
+		if (level.getFrameProfiler() != null) {
+			frameProfiler.record(FrameProfiler.VIEW_UPDATE, System.nanoTime() - start);
+		}
+	}
+
+	private void initializeBackground() {
+		SpriteCache.getSprite(level.getBackgroundImageName()).applyTo(background);
+		background.setFocusTraversable(true);
+		background.setFitHeight(level.getScreenHeight());
+		background.setFitWidth(level.getScreenWidth());
+		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP) level.handleInput(InputAction.MOVE_UP);
+				if (kc == KeyCode.DOWN) level.handleInput(InputAction.MOVE_DOWN);
+				if (kc == KeyCode.SPACE) level.handleInput(InputAction.FIRE);
+				if (kc == KeyCode.P) togglePause();
+				if (kc == KeyCode.F3) toggleProfiler();
+				if (kc == KeyCode.F4) exportProfile();
+			}
+		});
+		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP || kc == KeyCode.DOWN) level.handleInput(InputAction.STOP);
+			}
+		});
+		root.getChildren().add(background);
+	}
+
+	private static int countNodes(Parent parent) {
+		int count = 1;
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			count += child instanceof Parent ? countNodes((Parent) child) : 1;
+		}
+		return count;
+	}
+
+}
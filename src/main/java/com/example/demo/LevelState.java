@@ -0,0 +1,11 @@
+package com.example.demo;
+
+public enum LevelState {
+
+	LOADING,
+	RUNNING,
+	PAUSED,
+	FINISHED,
+	DISPOSED
+
+}
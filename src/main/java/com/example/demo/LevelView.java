@@ -10,22 +10,38 @@ public class LevelView {
 	private static final int WIN_IMAGE_Y_POSITION = 175;
 	private static final int LOSS_SCREEN_X_POSITION = -160;
 	private static final int LOSS_SCREEN_Y_POSISITION = -375;
+	private static final double COUNTER_X_POSITION = 1120;
+	private static final double SCORE_Y_POSITION = 45;
+	private static final double TIMER_Y_POSITION = 70;
+	private static final double FPS_Y_POSITION = 95;
 	private final Group root;
 	private final WinImage winImage;
 	private final GameOverImage gameOverImage;
 	private final HeartDisplay heartDisplay;
+	private final HudCounter scoreCounter;
+	private final HudCounter timerCounter;
+	private final HudCounter fpsCounter;
+	private int heartsDisplayed;
 	
 	public LevelView(Group root, int heartsToDisplay) {
 		this.root = root;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
+		this.heartsDisplayed = heartsToDisplay;
 		this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
 		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSISITION);
+		this.scoreCounter = new HudCounter("Kills ", COUNTER_X_POSITION, SCORE_Y_POSITION);
+		this.timerCounter = new HudCounter("Time  ", COUNTER_X_POSITION, TIMER_Y_POSITION);
+		this.fpsCounter = new HudCounter("FPS   ", COUNTER_X_POSITION, FPS_Y_POSITION);
 	}
 	
 	public void showHeartDisplay() {
 		root.getChildren().add(heartDisplay.getContainer());
 	}
 
+	public void showCounters() {
+		root.getChildren().addAll(scoreCounter, timerCounter, fpsCounter);
+	}
+
 	public void showWinImage() {
 		root.getChildren().add(winImage);
 		winImage.showWinImage();
@@ -34,11 +50,31 @@ public class LevelView {
 	public void showGameOverImage() {
 		root.getChildren().add(gameOverImage);
 	}
+
+	public void updateClock(int elapsedSeconds, int framesPerSecond) {
+		timerCounter.setValue(elapsedSeconds);
+		fpsCounter.setValue(framesPerSecond);
+	}
+
+	public void updateKills(int numberOfKills) {
+		scoreCounter.setValue(numberOfKills);
+	}
+
+	public void updateShield(FighterPlane plane, boolean shielded) {
+	}
+
+	// Called as the level removes an actor, before a pooled actor can be handed out again.
+	public void actorRemoved(ActiveActorDestructible actor) {
+	}
+
+	// Called every rendered frame, after actors have been placed, for view elements that track actors.
+	public void updateOverlays(double alpha) {
+	}
 	
 	public void removeHearts(int heartsRemaining) {
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
+		while (heartsDisplayed > Math.max(heartsRemaining, 0)) {
 			heartDisplay.removeHeart();
+			heartsDisplayed--;
 		}
 	}
 
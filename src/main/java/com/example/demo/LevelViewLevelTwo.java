@@ -1,31 +1,70 @@
 package com.example.demo;
 
+import java.util.*;
+
 import javafx.scene.Group;
 
 public class LevelViewLevelTwo extends LevelView {
 
-	private static final int SHIELD_X_POSITION = 1150;
-	private static final int SHIELD_Y_POSITION = 500;
 	private final Group root;
-	private final ShieldImage shieldImage;
+	private final List<ShieldImage> shieldImages;
 	
 	public LevelViewLevelTwo(Group root, int heartsToDisplay) {
 		super(root, heartsToDisplay);
 		this.root = root;
-		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
-		addImagesToRoot();
+		this.shieldImages = new ArrayList<>();
 	}
 	
-	private void addImagesToRoot() {
-		root.getChildren().addAll(shieldImage);
+	public void showShield(ActiveActorDestructible plane) {
+		if (findShield(plane) != null) {
+			return;
+		}
+		ShieldImage shieldImage = findShield(null);
+		if (shieldImage == null) {
+			shieldImage = new ShieldImage();
+			shieldImages.add(shieldImage);
+			root.getChildren().add(shieldImage);
+		}
+		shieldImage.bindTo(plane);
 	}
-	
-	public void showShield() {
-		shieldImage.showShield();
+
+	public void hideShield(ActiveActorDestructible plane) {
+		ShieldImage shieldImage = findShield(plane);
+		if (shieldImage != null) {
+			shieldImage.unbind();
+		}
+	}
+
+	@Override
+	public void updateShield(FighterPlane plane, boolean shielded) {
+		if (shielded) {
+			showShield(plane);
+		} else {
+			hideShield(plane);
+		}
+	}
+
+	// A plane destroyed while shielded never lowers its shield, so its image is released here.
+	@Override
+	public void actorRemoved(ActiveActorDestructible actor) {
+		hideShield(actor);
+	}
+
+	@Override
+	public void updateOverlays(double alpha) {
+		for (int i = 0; i < shieldImages.size(); i++) {
+			shieldImages.get(i).follow(alpha);
+		}
 	}
 
-	public void hideShield() {
-		shieldImage.hideShield();
+	private ShieldImage findShield(ActiveActorDestructible plane) {
+		for (int i = 0; i < shieldImages.size(); i++) {
+			ShieldImage shieldImage = shieldImages.get(i);
+			if (shieldImage.getTarget() == plane) {
+				return shieldImage;
+			}
+		}
+		return null;
 	}
 
 }
@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import java.util.*;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+public class NodeRenderer implements ActorRenderer {
+
+	private static final int MAX_IDLE_VIEWS_PER_SPRITE = 128;
+	private final Group layer;
+	private final Map<ActiveActor, ImageView> views;
+	private final Map<String, Deque<ImageView>> idleViews;
+	private final List<Node> pendingRemovals;
+
+	public NodeRenderer(Group layer) {
+		this.layer = layer;
+		this.views = new IdentityHashMap<>();
+		this.idleViews = new HashMap<>();
+		this.pendingRemovals = new ArrayList<>();
+	}
+
+	@Override
+	public void add(ActiveActor actor) {
+		ImageView view = obtainView(actor.getImageName());
+		view.setFitHeight(actor.getHeight());
+		view.setUserData(actor);
+		sync(view, actor, 1);
+		view.setVisible(true);
+		views.put(actor, view);
+	}
+
+	@Override
+	public void remove(ActiveActor actor) {
+		ImageView view = views.remove(actor);
+		if (view != null) {
+			view.setUserData(null);
+			view.setVisible(false);
+			releaseView(actor.getImageName(), view);
+		}
+	}
+
+	@Override
+	public void render(double alpha) {
+		flushRemovals();
+		List<Node> children = layer.getChildren();
+		for (int i = 0; i < children.size(); i++) {
+			Node view = children.get(i);
+			ActiveActor actor = (ActiveActor) view.getUserData();
+			if (actor != null) {
+				sync(view, actor, alpha);
+			}
+		}
+	}
+
+	@Override
+	public int getActorCount() {
+		return views.size();
+	}
+
+	private void sync(Node view, ActiveActor actor, double alpha) {
+		view.setLayoutX(actor.getLayoutX());
+		view.setLayoutY(actor.getLayoutY());
+		view.setTranslateX(actor.getInterpolatedTranslateX(alpha));
+		view.setTranslateY(actor.getInterpolatedTranslateY(alpha));
+	}
+
+	private ImageView obtainView(String imageName) {
+		Deque<ImageView> idle = idleViews.get(imageName);
+		ImageView view = idle == null ? null : idle.pollLast();
+		if (view == null) {
+			view = new ImageView();
+			SpriteCache.getSprite(imageName).applyTo(view);
+			view.setPreserveRatio(true);
+			layer.getChildren().add(view);
+		}
+		return view;
+	}
+
+	// Hidden views stay in the layer for reuse; only the overflow is detached, in one batch per frame.
+	private void releaseView(String imageName, ImageView view) {
+		Deque<ImageView> idle = idleViews.computeIfAbsent(imageName, name -> new ArrayDeque<>());
+		if (idle.size() < MAX_IDLE_VIEWS_PER_SPRITE) {
+			idle.addLast(view);
+		} else {
+			pendingRemovals.add(view);
+		}
+	}
+
+	private void flushRemovals() {
+		if (!pendingRemovals.isEmpty()) {
+			layer.getChildren().removeAll(pendingRemovals);
+			pendingRemovals.clear();
+		}
+	}
+
+}
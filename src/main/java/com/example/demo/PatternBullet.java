@@ -0,0 +1,63 @@
+package com.example.demo;
+
+public class PatternBullet extends Projectile {
+
+	private static final String IMAGE_NAME = "fireball.png";
+	private static final int IMAGE_HEIGHT = 30;
+	private static final int POOL_CAPACITY = 8192;
+	private static final ActorPool<PatternBullet> POOL = new ActorPool<>("PatternBullet", POOL_CAPACITY,
+			() -> new PatternBullet(0, 0));
+	private double homingTurnRate;
+	private int homingTicks;
+
+	public PatternBullet(double initialXPos, double initialYPos) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+	}
+
+	// Bullets are positioned by their centre, which is where patterns aim from.
+	public static PatternBullet obtain(double x, double y, double velocityX, double velocityY, double turnRate,
+			int homingTicks) {
+		PatternBullet bullet = POOL.obtain();
+		bullet.reset(x - bullet.getWidth() / 2, y - IMAGE_HEIGHT / 2.0);
+		bullet.setVelocity(velocityX, velocityY);
+		bullet.homingTurnRate = turnRate;
+		bullet.homingTicks = homingTicks;
+		return bullet;
+	}
+
+	public static void prewarm(int count) {
+		POOL.prewarm(count);
+	}
+
+	@Override
+	public void updatePosition() {
+		moveHorizontally(getVelocityX());
+		moveVertically(getVelocityY());
+	}
+
+	@Override
+	public boolean isKinematic() {
+		return true;
+	}
+
+	@Override
+	public double getHomingTurnRate() {
+		return homingTurnRate;
+	}
+
+	@Override
+	public int getHomingTicks() {
+		return homingTicks;
+	}
+
+	@Override
+	public void updateActor() {
+		updatePosition();
+	}
+
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.demo;
+
+public interface PlaneListener {
+
+	PlaneListener NONE = new PlaneListener() {
+	};
+
+	default void healthChanged(FighterPlane plane, int health) {
+	}
+
+	default void killCountChanged(int numberOfKills) {
+	}
+
+	default void shieldChanged(FighterPlane plane, boolean shielded) {
+	}
+
+}
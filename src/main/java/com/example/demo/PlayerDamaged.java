@@ -0,0 +1,16 @@
+package com.example.demo;
+
+public final class PlayerDamaged extends GameEvent {
+
+	private final int health;
+
+	public PlayerDamaged(long tick, int health) {
+		super(tick);
+		this.health = health;
+	}
+
+	public int getHealth() {
+		return health;
+	}
+
+}
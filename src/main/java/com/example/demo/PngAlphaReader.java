@@ -0,0 +1,155 @@
+package com.example.demo;
+
+import java.io.*;
+import java.util.zip.*;
+
+// Reads just the alpha channel of 8-bit, non-interlaced RGB/RGBA PNGs without the JavaFX toolkit.
+public final class PngAlphaReader {
+
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR = 0x49484452;
+	private static final int IDAT = 0x49444154;
+	private static final int IEND = 0x49454E44;
+	private static final int COLOR_TYPE_RGB = 2;
+	private static final int COLOR_TYPE_RGBA = 6;
+	private static final int OPAQUE = 0xFF;
+	private final int width;
+	private final int height;
+	private final byte[] alpha;
+
+	public PngAlphaReader(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		if (in.readLong() != PNG_SIGNATURE) {
+			throw new IOException("Not a PNG image");
+		}
+		int imageWidth = 0;
+		int imageHeight = 0;
+		int bytesPerPixel = 0;
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		while (true) {
+			int length = in.readInt();
+			int type = in.readInt();
+			byte[] data = in.readNBytes(length);
+			in.readInt();
+			if (type == IHDR) {
+				DataInputStream header = new DataInputStream(new ByteArrayInputStream(data));
+				imageWidth = header.readInt();
+				imageHeight = header.readInt();
+				int bitDepth = header.readUnsignedByte();
+				int colorType = header.readUnsignedByte();
+				header.skipNBytes(2);
+				int interlace = header.readUnsignedByte();
+				if (bitDepth != 8 || interlace != 0 || (colorType != COLOR_TYPE_RGB && colorType != COLOR_TYPE_RGBA)) {
+					throw new IOException("Unsupported PNG format: depth=" + bitDepth + ", colorType=" + colorType
+							+ ", interlace=" + interlace);
+				}
+				bytesPerPixel = colorType == COLOR_TYPE_RGBA ? 4 : 3;
+			} else if (type == IDAT) {
+				compressed.write(data);
+			} else if (type == IEND) {
+				break;
+			}
+		}
+		this.width = imageWidth;
+		this.height = imageHeight;
+		this.alpha = extractAlpha(inflate(compressed.toByteArray(), (imageWidth * bytesPerPixel + 1) * imageHeight),
+				bytesPerPixel);
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getAlpha(int x, int y) {
+		return alpha[y * width + x] & 0xFF;
+	}
+
+	private byte[] extractAlpha(byte[] scanlines, int bytesPerPixel) throws IOException {
+		int stride = width * bytesPerPixel;
+		byte[] previous = new byte[stride];
+		byte[] current = new byte[stride];
+		byte[] result = new byte[width * height];
+		for (int y = 0; y < height; y++) {
+			int rowStart = y * (stride + 1);
+			int filter = scanlines[rowStart];
+			System.arraycopy(scanlines, rowStart + 1, current, 0, stride);
+			unfilter(filter, current, previous, bytesPerPixel);
+			for (int x = 0; x < width; x++) {
+				result[y * width + x] = bytesPerPixel == 4 ? current[x * 4 + 3] : (byte) OPAQUE;
+			}
+			byte[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return result;
+	}
+
+	private static void unfilter(int filter, byte[] row, byte[] previous, int bytesPerPixel) throws IOException {
+		for (int i = 0; i < row.length; i++) {
+			int left = i >= bytesPerPixel ? row[i - bytesPerPixel] & 0xFF : 0;
+			int up = previous[i] & 0xFF;
+			int upLeft = i >= bytesPerPixel ? previous[i - bytesPerPixel] & 0xFF : 0;
+			int predictor;
+			switch (filter) {
+				case 0:
+					predictor = 0;
+					break;
+				case 1:
+					predictor = left;
+					break;
+				case 2:
+					predictor = up;
+					break;
+				case 3:
+					predictor = (left + up) >>> 1;
+					break;
+				case 4:
+					predictor = paeth(left, up, upLeft);
+					break;
+				default:
+					throw new IOException("Unknown PNG filter: " + filter);
+			}
+			row[i] = (byte) (row[i] + predictor);
+		}
+	}
+
+	private static int paeth(int left, int up, int upLeft) {
+		int estimate = left + up - upLeft;
+		int distanceLeft = Math.abs(estimate - left);
+		int distanceUp = Math.abs(estimate - up);
+		int distanceUpLeft = Math.abs(estimate - upLeft);
+		if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+			return left;
+		}
+		return distanceUp <= distanceUpLeft ? up : upLeft;
+	}
+
+	private static byte[] inflate(byte[] compressed, int expectedLength) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] result = new byte[expectedLength];
+			int length = 0;
+			while (length < expectedLength && !inflater.finished()) {
+				int inflated = inflater.inflate(result, length, expectedLength - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != expectedLength) {
+				throw new IOException("Truncated PNG image data");
+			}
+			return result;
+		} catch (DataFormatException e) {
+			throw new IOException("Corrupt PNG image data", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
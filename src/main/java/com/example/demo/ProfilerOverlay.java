@@ -0,0 +1,54 @@
+package com.example.demo;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.*;
+
+public class ProfilerOverlay extends Text {
+
+	private static final double X_POSITION = 5;
+	private static final double Y_POSITION = 110;
+	private static final double FONT_SIZE = 12;
+	private static final long REFRESH_INTERVAL_NANOS = 250_000_000L;
+	private static final String[] COUNTER_LABELS = { "friendly", "enemies", "user shots", "enemy shots", "nodes", "culled" };
+	private final FrameProfiler profiler;
+	private final StringBuilder report;
+	private long lastRefreshNanos;
+
+	public ProfilerOverlay(FrameProfiler profiler) {
+		this.profiler = profiler;
+		this.report = new StringBuilder();
+		this.setLayoutX(X_POSITION);
+		this.setLayoutY(Y_POSITION);
+		this.setFont(Font.font("Monospaced", FONT_SIZE));
+		this.setFill(Color.WHITE);
+		this.setStroke(Color.BLACK);
+		this.setStrokeWidth(0.3);
+		this.setVisible(false);
+		this.setMouseTransparent(true);
+	}
+
+	public boolean toggle() {
+		setVisible(!isVisible());
+		lastRefreshNanos = 0;
+		return isVisible();
+	}
+
+	public void refresh(long nowNanos) {
+		if (!isVisible() || nowNanos - lastRefreshNanos < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		lastRefreshNanos = nowNanos;
+		report.setLength(0);
+		report.append(String.format("%-28s %8s %8s%n", "stage (last " + profiler.getSampleCount() + " ticks)",
+				"avg ms", "max ms"));
+		for (int section = 0; section < FrameProfiler.getSectionCount(); section++) {
+			report.append(String.format("%-28s %8.3f %8.3f%n", FrameProfiler.getSectionName(section),
+					profiler.getAverageMillis(section), profiler.getMaxMillis(section)));
+		}
+		for (int counter = 0; counter < COUNTER_LABELS.length; counter++) {
+			report.append(String.format("%-28s %8d%n", COUNTER_LABELS[counter], profiler.getLatestCounter(counter)));
+		}
+		setText(report.toString());
+	}
+
+}
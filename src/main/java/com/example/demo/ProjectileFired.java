@@ -0,0 +1,28 @@
+package com.example.demo;
+
+public final class ProjectileFired extends GameEvent {
+
+	private final boolean friendly;
+	private final double x;
+	private final double y;
+
+	public ProjectileFired(long tick, boolean friendly, double x, double y) {
+		super(tick);
+		this.friendly = friendly;
+		this.x = x;
+		this.y = y;
+	}
+
+	public boolean isFriendly() {
+		return friendly;
+	}
+
+	public double getX() {
+		return x;
+	}
+
+	public double getY() {
+		return y;
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+
+public class RandomService {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final RandomStream[] STREAMS = RandomStream.values();
+	private final long seed;
+	private final SplittableRandom[] streams;
+
+	public RandomService(long seed) {
+		this.seed = seed;
+		this.streams = new SplittableRandom[STREAMS.length];
+		for (RandomStream stream : STREAMS) {
+			streams[stream.ordinal()] = new SplittableRandom(streamSeed(stream));
+		}
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public double nextDouble(RandomStream stream) {
+		return streams[stream.ordinal()].nextDouble();
+	}
+
+	public int nextInt(RandomStream stream, int bound) {
+		return streams[stream.ordinal()].nextInt(bound);
+	}
+
+	// A fresh generator for precomputing tables; it does not advance the stream itself.
+	public SplittableRandom newGenerator(RandomStream stream) {
+		return new SplittableRandom(streamSeed(stream));
+	}
+
+	// Stateless, so chunks on any thread get the same value for the same (stream, tick, index).
+	public double roll(RandomStream stream, long tick, int index) {
+		long hash = mix(streamSeed(stream) + tick * GOLDEN_GAMMA);
+		hash = mix(hash + index * GOLDEN_GAMMA);
+		return (hash >>> 11) * DOUBLE_UNIT;
+	}
+
+	private long streamSeed(RandomStream stream) {
+		return mix(seed + (stream.ordinal() + 1) * GOLDEN_GAMMA);
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+}
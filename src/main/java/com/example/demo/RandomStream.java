@@ -0,0 +1,9 @@
+package com.example.demo;
+
+public enum RandomStream {
+
+	SPAWN,
+	ENEMY_FIRE,
+	BOSS_MOVEMENT
+
+}
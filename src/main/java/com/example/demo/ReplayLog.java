@@ -0,0 +1,14 @@
+package com.example.demo;
+
+public final class ReplayLog {
+
+	public static final String FILE_EXTENSION = ".skyreplay";
+	static final int MAGIC = 0x534B5952;
+	static final int VERSION = 4;
+	static final int CHECKSUM_RECORD = 0x40;
+	static final int END_RECORD = 0x7F;
+
+	private ReplayLog() {
+	}
+
+}
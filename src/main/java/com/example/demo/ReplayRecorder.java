@@ -0,0 +1,88 @@
+package com.example.demo;
+
+import java.io.*;
+import java.nio.file.*;
+
+public class ReplayRecorder {
+
+	private final DataOutputStream out;
+	private final Path path;
+	private final int checksumInterval;
+	private long lastRecordedTick;
+
+	public ReplayRecorder(Path path, LevelParent level, int checksumInterval) throws IOException {
+		this.path = path;
+		this.checksumInterval = checksumInterval;
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+		out.writeInt(ReplayLog.MAGIC);
+		out.writeByte(ReplayLog.VERSION);
+		out.writeUTF(level.getLevelName());
+		out.writeLong(level.getSeed());
+		out.writeDouble(level.getScreenHeight());
+		out.writeDouble(level.getScreenWidth());
+		out.writeUTF(level.getCollisionEngine().getName());
+		out.writeBoolean(GameSettings.isCollisionMaskEnabled());
+		VarInts.writeVarLong(out, GameSettings.getMaxSpawnsPerTick());
+		VarInts.writeVarLong(out, checksumInterval);
+		lastRecordedTick = level.getTickCount();
+	}
+
+	public static void recordIfEnabled(LevelParent level) {
+		Path directory = GameSettings.getReplayDirectory();
+		if (directory == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(directory);
+			String fileName = level.getLevelName() + "-" + level.getSeed() + "-"
+					+ System.currentTimeMillis() + ReplayLog.FILE_EXTENSION;
+			level.setReplayRecorder(
+					new ReplayRecorder(directory.resolve(fileName), level, GameSettings.getReplayChecksumInterval()));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void recordInput(long tick, InputAction action) {
+		try {
+			writeRecord(tick, action.ordinal());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void tickCompleted(LevelParent level) {
+		long tick = level.getTickCount();
+		if (checksumInterval > 0 && tick % checksumInterval == 0) {
+			try {
+				writeRecord(tick, ReplayLog.CHECKSUM_RECORD);
+				out.writeLong(level.computeChecksum());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	public void close(long finalTick) {
+		try {
+			try {
+				writeRecord(finalTick, ReplayLog.END_RECORD);
+			} finally {
+				out.close();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	private void writeRecord(long tick, int code) throws IOException {
+		VarInts.writeVarLong(out, tick - lastRecordedTick);
+		out.writeByte(code);
+		lastRecordedTick = tick;
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.example.demo;
+
+import java.io.*;
+import java.nio.file.*;
+
+public class ReplayRunner {
+
+	private static final InputAction[] INPUT_ACTIONS = InputAction.values();
+	private static final double NANOS_PER_MILLI = 1e6;
+	private final DataInputStream in;
+	private final LevelParent level;
+	private final long checksumInterval;
+	private long recordTick;
+	private long checksumsVerified;
+	private long divergedAtTick;
+	private long slowestTick;
+	private long slowestTickNanos;
+
+	public ReplayRunner(Path path) throws IOException, ReflectiveOperationException {
+		this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+		if (in.readInt() != ReplayLog.MAGIC) {
+			in.close();
+			throw new IOException("Not a replay log: " + path);
+		}
+		int version = in.readUnsignedByte();
+		if (version != ReplayLog.VERSION) {
+			in.close();
+			throw new IOException("Unsupported replay log version " + version + ": " + path);
+		}
+		String levelName = in.readUTF();
+		long seed = in.readLong();
+		double screenHeight = in.readDouble();
+		double screenWidth = in.readDouble();
+		String collisionEngine = in.readUTF();
+		// Masks and the spawn budget are fixed for the whole JVM, so a replay can only be checked against them.
+		requireSetting(GameSettings.COLLISION_MASKS_PROPERTY, in.readBoolean(), GameSettings.isCollisionMaskEnabled(),
+				path);
+		requireSetting(GameSettings.MAX_SPAWNS_PER_TICK_PROPERTY, VarInts.readVarLong(in),
+				(long) GameSettings.getMaxSpawnsPerTick(), path);
+		this.checksumInterval = VarInts.readVarLong(in);
+		this.level = LevelLoader.createLevel(levelName, screenHeight, screenWidth, seed);
+		if (!collisionEngine.equals(level.getCollisionEngine().getName())) {
+			level.setCollisionEngine(CollisionEngine.create(collisionEngine));
+		}
+		this.divergedAtTick = -1;
+		this.slowestTick = -1;
+	}
+
+	public boolean run() throws IOException {
+		level.start();
+		try (DataInputStream log = in) {
+			while (true) {
+				recordTick += VarInts.readVarLong(log);
+				int code = log.readUnsignedByte();
+				advanceTo(recordTick);
+				if (code == ReplayLog.END_RECORD) {
+					break;
+				} else if (code == ReplayLog.CHECKSUM_RECORD) {
+					if (!verifyChecksum(log.readLong())) {
+						break;
+					}
+				} else if (code < INPUT_ACTIONS.length) {
+					level.handleInput(INPUT_ACTIONS[code]);
+				} else {
+					throw new IOException("Unknown replay record " + code + " at tick " + recordTick);
+				}
+			}
+		} finally {
+			level.dispose();
+		}
+		return divergedAtTick < 0;
+	}
+
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	public long getChecksumInterval() {
+		return checksumInterval;
+	}
+
+	public long getChecksumsVerified() {
+		return checksumsVerified;
+	}
+
+	public long getDivergedAtTick() {
+		return divergedAtTick;
+	}
+
+	public long getSlowestTick() {
+		return slowestTick;
+	}
+
+	public long getSlowestTickNanos() {
+		return slowestTickNanos;
+	}
+
+	private void requireSetting(String property, Object recorded, Object current, Path path) throws IOException {
+		if (!recorded.equals(current)) {
+			in.close();
+			throw new IOException("Replay was recorded with -D" + property + "=" + recorded + " but this run uses "
+					+ current + ": " + path);
+		}
+	}
+
+	private void advanceTo(long tick) {
+		while (level.getTickCount() < tick && !level.isFinished()) {
+			long tickStart = System.nanoTime();
+			level.tick();
+			long tickNanos = System.nanoTime() - tickStart;
+			if (tickNanos > slowestTickNanos) {
+				slowestTickNanos = tickNanos;
+				slowestTick = level.getTickCount();
+			}
+		}
+	}
+
+	private boolean verifyChecksum(long expectedChecksum) {
+		if (level.getTickCount() != recordTick || level.computeChecksum() != expectedChecksum) {
+			divergedAtTick = recordTick;
+			return false;
+		}
+		checksumsVerified++;
+		return true;
+	}
+
+	public static void main(String[] args) throws IOException, ReflectiveOperationException {
+		if (args.length == 0) {
+			System.err.println("Usage: ReplayRunner <replay" + ReplayLog.FILE_EXTENSION + ">...");
+			System.exit(2);
+		}
+		boolean allMatched = true;
+		for (String arg : args) {
+			ReplayRunner runner = new ReplayRunner(Paths.get(arg));
+			long start = System.nanoTime();
+			boolean matched = runner.run();
+			double seconds = (System.nanoTime() - start) / 1e9;
+			LevelParent level = runner.getLevel();
+			System.out.printf("%s: %s seed=%d, %d ticks in %.3f s (%.0f ticks/s), %d checksums verified, "
+					+ "slowest tick #%d took %.3f ms%s%n", arg, level.getLevelName(), level.getSeed(),
+					level.getTickCount(), seconds, level.getTickCount() / seconds, runner.getChecksumsVerified(),
+					runner.getSlowestTick(), runner.getSlowestTickNanos() / NANOS_PER_MILLI,
+					matched ? "" : ", DIVERGED at tick " + runner.getDivergedAtTick());
+			allMatched &= matched;
+		}
+		if (!allMatched) {
+			System.exit(1);
+		}
+	}
+
+}
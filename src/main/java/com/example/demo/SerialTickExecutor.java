@@ -0,0 +1,21 @@
+package com.example.demo;
+
+public class SerialTickExecutor implements TickExecutor {
+
+	@Override
+	public int getChunkCount(int size) {
+		return size == 0 ? 0 : 1;
+	}
+
+	@Override
+	public void forEachChunk(int size, ChunkTask task) {
+		if (size > 0) {
+			task.run(0, 0, size);
+		}
+	}
+
+	@Override
+	public void close() {
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.example.demo;
+
+public final class ShieldChanged extends GameEvent {
+
+	private final FighterPlane plane;
+	private final boolean shielded;
+
+	public ShieldChanged(long tick, FighterPlane plane, boolean shielded) {
+		super(tick);
+		this.plane = plane;
+		this.shielded = shielded;
+	}
+
+	public FighterPlane getPlane() {
+		return plane;
+	}
+
+	public boolean isShielded() {
+		return shielded;
+	}
+
+}
@@ -1,18 +1,15 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 public class ShieldImage extends ImageView {
 	
-	private static final String IMAGE_NAME = "/images/shield.png";
+	private static final String IMAGE_NAME = "shield.png";
 	private static final int SHIELD_SIZE = 200;
+	private ActiveActorDestructible target;
 	
-	public ShieldImage(double xPosition, double yPosition) {
-		this.setLayoutX(xPosition);
-		this.setLayoutY(yPosition);
-		//this.setImage(new Image(IMAGE_NAME));
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.jpg").toExternalForm()));
+	public ShieldImage() {
+		SpriteCache.getSprite(IMAGE_NAME).applyTo(this);
 		this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
@@ -26,4 +23,27 @@ public class ShieldImage extends ImageView {
 		this.setVisible(false);
 	}
 
+	// The shield is centred on its target each frame instead of sitting at a fixed position.
+	public void bindTo(ActiveActorDestructible target) {
+		this.target = target;
+		showShield();
+	}
+
+	public void unbind() {
+		target = null;
+		hideShield();
+	}
+
+	public ActiveActorDestructible getTarget() {
+		return target;
+	}
+
+	public void follow(double alpha) {
+		if (target == null) {
+			return;
+		}
+		setLayoutX(target.getLayoutX() + target.getInterpolatedTranslateX(alpha) + (target.getWidth() - SHIELD_SIZE) / 2);
+		setLayoutY(target.getLayoutY() + target.getInterpolatedTranslateY(alpha) + (target.getHeight() - SHIELD_SIZE) / 2);
+	}
+
 }
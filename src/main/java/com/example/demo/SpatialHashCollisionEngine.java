@@ -0,0 +1,226 @@
+package com.example.demo;
+
+import java.util.*;
+
+public class SpatialHashCollisionEngine implements CollisionEngine {
+
+	private static final double DEFAULT_CELL_SIZE = 128;
+	private static final int BUCKET_COUNT = 1024;
+	private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int NO_ENTRY = -1;
+	private final double cellSize;
+	private final AabbBuffer bounds1;
+	private final AabbBuffer bounds2;
+	private final int[] bucketHeads;
+	private int[] entryNext;
+	private int[] entryActor;
+	private int[] entryCellX;
+	private int[] entryCellY;
+	private int entryCount;
+	private TickExecutor tickExecutor;
+	private HitBuffer[] hitBuffers;
+	private ActorStore queryActors;
+	private ActorStore gridActors;
+	private final TickExecutor.ChunkTask queryTask = this::queryChunk;
+
+	public SpatialHashCollisionEngine() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	public SpatialHashCollisionEngine(double cellSize) {
+		this.cellSize = cellSize;
+		this.bounds1 = new AabbBuffer();
+		this.bounds2 = new AabbBuffer();
+		this.bucketHeads = new int[BUCKET_COUNT];
+		this.entryNext = new int[INITIAL_CAPACITY];
+		this.entryActor = new int[INITIAL_CAPACITY];
+		this.entryCellX = new int[INITIAL_CAPACITY];
+		this.entryCellY = new int[INITIAL_CAPACITY];
+		this.tickExecutor = new SerialTickExecutor();
+		this.hitBuffers = new HitBuffer[0];
+	}
+
+	@Override
+	public void setTickExecutor(TickExecutor tickExecutor) {
+		this.tickExecutor = tickExecutor;
+	}
+
+	@Override
+	public String getName() {
+		return SPATIAL_HASH;
+	}
+
+	@Override
+	public int handleCollisions(ActorStore actors1, ActorStore actors2) {
+		if (actors1.isEmpty() || actors2.isEmpty()) {
+			return 0;
+		}
+		bounds1.load(actors1, tickExecutor);
+		bounds2.load(actors2, tickExecutor);
+		buildGrid();
+		int chunkCount = tickExecutor.getChunkCount(bounds1.size);
+		ensureHitBuffers(chunkCount);
+		queryActors = actors1;
+		gridActors = actors2;
+		tickExecutor.forEachChunk(bounds1.size, queryTask);
+		queryActors = null;
+		gridActors = null;
+		int collisions = 0;
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			HitBuffer hits = hitBuffers[chunk];
+			for (int i = 0; i < hits.size; i++) {
+				actors2.damage(hits.otherIndices[i]);
+				actors1.damage(hits.indices[i]);
+			}
+			collisions += hits.size;
+		}
+		return collisions;
+	}
+
+	// Chunks only read the grid and record hits; damage is applied afterwards in chunk order.
+	private void queryChunk(int chunk, int from, int to) {
+		HitBuffer hits = hitBuffers[chunk];
+		hits.size = 0;
+		for (int i = from; i < to; i++) {
+			int firstCellX = toCell(bounds1.minX[i]);
+			int lastCellX = toCell(bounds1.maxX[i]);
+			int firstCellY = toCell(bounds1.minY[i]);
+			int lastCellY = toCell(bounds1.maxY[i]);
+			for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+				for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+					collideInCell(hits, i, cellX, cellY);
+				}
+			}
+		}
+	}
+
+	private void collideInCell(HitBuffer hits, int index, int cellX, int cellY) {
+		for (int entry = bucketHeads[bucketOf(cellX, cellY)]; entry != NO_ENTRY; entry = entryNext[entry]) {
+			if (entryCellX[entry] != cellX || entryCellY[entry] != cellY) {
+				continue;
+			}
+			int otherIndex = entryActor[entry];
+			if (overlaps(index, otherIndex) && isReferenceCell(index, otherIndex, cellX, cellY)
+					&& queryActors.masksOverlap(index, gridActors, otherIndex)) {
+				hits.add(index, otherIndex);
+			}
+		}
+	}
+
+	private void ensureHitBuffers(int chunkCount) {
+		if (hitBuffers.length < chunkCount) {
+			int previousLength = hitBuffers.length;
+			hitBuffers = Arrays.copyOf(hitBuffers, chunkCount);
+			for (int i = previousLength; i < chunkCount; i++) {
+				hitBuffers[i] = new HitBuffer();
+			}
+		}
+	}
+
+	private void buildGrid() {
+		Arrays.fill(bucketHeads, NO_ENTRY);
+		entryCount = 0;
+		for (int i = 0; i < bounds2.size; i++) {
+			int firstCellX = toCell(bounds2.minX[i]);
+			int lastCellX = toCell(bounds2.maxX[i]);
+			int firstCellY = toCell(bounds2.minY[i]);
+			int lastCellY = toCell(bounds2.maxY[i]);
+			for (int cellX = firstCellX; cellX <= lastCellX; cellX++) {
+				for (int cellY = firstCellY; cellY <= lastCellY; cellY++) {
+					insert(i, cellX, cellY);
+				}
+			}
+		}
+	}
+
+	private void insert(int actorIndex, int cellX, int cellY) {
+		if (entryCount == entryNext.length) {
+			int capacity = entryCount * 2;
+			entryNext = Arrays.copyOf(entryNext, capacity);
+			entryActor = Arrays.copyOf(entryActor, capacity);
+			entryCellX = Arrays.copyOf(entryCellX, capacity);
+			entryCellY = Arrays.copyOf(entryCellY, capacity);
+		}
+		int bucket = bucketOf(cellX, cellY);
+		entryActor[entryCount] = actorIndex;
+		entryCellX[entryCount] = cellX;
+		entryCellY[entryCount] = cellY;
+		entryNext[entryCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = entryCount;
+		entryCount++;
+	}
+
+	private boolean overlaps(int index1, int index2) {
+		return bounds2.maxX[index2] >= bounds1.minX[index1] && bounds2.maxY[index2] >= bounds1.minY[index1]
+				&& bounds2.minX[index2] <= bounds1.maxX[index1] && bounds2.minY[index2] <= bounds1.maxY[index1];
+	}
+
+	// A pair sharing several cells is only resolved in the cell holding the top-left corner of their overlap.
+	private boolean isReferenceCell(int index1, int index2, int cellX, int cellY) {
+		return toCell(Math.max(bounds1.minX[index1], bounds2.minX[index2])) == cellX
+				&& toCell(Math.max(bounds1.minY[index1], bounds2.minY[index2])) == cellY;
+	}
+
+	private int toCell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	private static int bucketOf(int cellX, int cellY) {
+		return ((cellX * 73856093) ^ (cellY * 19349663)) & BUCKET_MASK;
+	}
+
+	private static class AabbBuffer {
+
+		private double[] minX = new double[INITIAL_CAPACITY];
+		private double[] minY = new double[INITIAL_CAPACITY];
+		private double[] maxX = new double[INITIAL_CAPACITY];
+		private double[] maxY = new double[INITIAL_CAPACITY];
+		private int size;
+		private ActorStore actors;
+		private final TickExecutor.ChunkTask loadTask = (chunk, from, to) -> copyBounds(from, to);
+
+		private void load(ActorStore actors, TickExecutor tickExecutor) {
+			size = actors.size();
+			if (size > minX.length) {
+				int capacity = Math.max(size, minX.length * 2);
+				minX = new double[capacity];
+				minY = new double[capacity];
+				maxX = new double[capacity];
+				maxY = new double[capacity];
+			}
+			this.actors = actors;
+			tickExecutor.forEachChunk(size, loadTask);
+			this.actors = null;
+		}
+
+		private void copyBounds(int from, int to) {
+			for (int i = from; i < to; i++) {
+				minX[i] = actors.getMinX(i);
+				minY[i] = actors.getMinY(i);
+				maxX[i] = actors.getMaxX(i);
+				maxY[i] = actors.getMaxY(i);
+			}
+		}
+
+	}
+
+	private static class HitBuffer {
+
+		private int[] indices = new int[INITIAL_CAPACITY];
+		private int[] otherIndices = new int[INITIAL_CAPACITY];
+		private int size;
+
+		private void add(int index, int otherIndex) {
+			if (size == indices.length) {
+				indices = Arrays.copyOf(indices, size * 2);
+				otherIndices = Arrays.copyOf(otherIndices, size * 2);
+			}
+			indices[size] = index;
+			otherIndices[size] = otherIndex;
+			size++;
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.example.demo;
+
+import java.util.*;
+
+public class SpawnScheduler {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private long[] ticks;
+	private long[] sequence;
+	private ActiveActorDestructible[] actors;
+	private int size;
+	private long nextSequence;
+
+	public SpawnScheduler() {
+		this.ticks = new long[INITIAL_CAPACITY];
+		this.sequence = new long[INITIAL_CAPACITY];
+		this.actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+	}
+
+	// Actors are built or taken from their pool here, ahead of the tick they enter the level.
+	public void schedule(long tick, ActiveActorDestructible actor) {
+		if (size == ticks.length) {
+			ticks = Arrays.copyOf(ticks, size * 2);
+			sequence = Arrays.copyOf(sequence, size * 2);
+			actors = Arrays.copyOf(actors, size * 2);
+		}
+		int slot = size++;
+		ticks[slot] = tick;
+		sequence[slot] = nextSequence++;
+		actors[slot] = actor;
+		siftUp(slot);
+	}
+
+	// Removes the earliest spawn; callers check peekTick() first so nothing leaves before its tick.
+	public ActiveActorDestructible poll() {
+		if (size == 0) {
+			return null;
+		}
+		ActiveActorDestructible actor = actors[0];
+		size--;
+		move(size, 0);
+		actors[size] = null;
+		if (size > 0) {
+			siftDown(0);
+		}
+		return actor;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public long peekTick() {
+		return size == 0 ? Long.MAX_VALUE : ticks[0];
+	}
+
+	// Hands pending actors back to their pools.
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			actors[i].recycle();
+			actors[i] = null;
+		}
+		size = 0;
+	}
+
+	private void siftUp(int slot) {
+		long tick = ticks[slot];
+		long order = sequence[slot];
+		ActiveActorDestructible actor = actors[slot];
+		while (slot > 0) {
+			int parent = (slot - 1) >>> 1;
+			if (!before(tick, order, ticks[parent], sequence[parent])) {
+				break;
+			}
+			move(parent, slot);
+			slot = parent;
+		}
+		ticks[slot] = tick;
+		sequence[slot] = order;
+		actors[slot] = actor;
+	}
+
+	private void siftDown(int slot) {
+		long tick = ticks[slot];
+		long order = sequence[slot];
+		ActiveActorDestructible actor = actors[slot];
+		int half = size >>> 1;
+		while (slot < half) {
+			int child = 2 * slot + 1;
+			int right = child + 1;
+			if (right < size && before(ticks[right], sequence[right], ticks[child], sequence[child])) {
+				child = right;
+			}
+			if (!before(ticks[child], sequence[child], tick, order)) {
+				break;
+			}
+			move(child, slot);
+			slot = child;
+		}
+		ticks[slot] = tick;
+		sequence[slot] = order;
+		actors[slot] = actor;
+	}
+
+	// Ties keep scheduling order, so spawns replay identically for a given seed.
+	private static boolean before(long tick, long order, long otherTick, long otherOrder) {
+		return tick < otherTick || (tick == otherTick && order < otherOrder);
+	}
+
+	private void move(int from, int to) {
+		ticks[to] = ticks[from];
+		sequence[to] = sequence[from];
+		actors[to] = actors[from];
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+public final class SpawnWave {
+
+	private final int startTick;
+	private final int size;
+	private final int[] tickOffsets;
+	private final int[] archetypes;
+	private final double[] positions;
+
+	public SpawnWave(int startTick, int size, int[] tickOffsets, int[] archetypes, double[] positions) {
+		this.startTick = startTick;
+		this.size = size;
+		this.tickOffsets = Arrays.copyOf(tickOffsets, size);
+		this.archetypes = Arrays.copyOf(archetypes, size);
+		this.positions = Arrays.copyOf(positions, size);
+	}
+
+	public int getStartTick() {
+		return startTick;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getSpawnTick(int index) {
+		return startTick + tickOffsets[index];
+	}
+
+	public int getTickOffset(int index) {
+		return tickOffsets[index];
+	}
+
+	public int getArchetype(int index) {
+		return archetypes[index];
+	}
+
+	// Vertical position as a fraction of the level's enemy spawn band.
+	public double getPosition(int index) {
+		return positions[index];
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.demo;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+public final class Sprite {
+
+	private final Image image;
+	private final Rectangle2D viewport;
+
+	Sprite(Image image, Rectangle2D viewport) {
+		this.image = image;
+		this.viewport = viewport;
+	}
+
+	public void applyTo(ImageView view) {
+		view.setImage(image);
+		view.setViewport(viewport);
+	}
+
+	public Image getImage() {
+		return image;
+	}
+
+	public Rectangle2D getViewport() {
+		return viewport;
+	}
+
+	public boolean isPacked() {
+		return viewport != null;
+	}
+
+	public double getWidth() {
+		return isPacked() ? viewport.getWidth() : image.getWidth();
+	}
+
+	public double getHeight() {
+		return isPacked() ? viewport.getHeight() : image.getHeight();
+	}
+
+}
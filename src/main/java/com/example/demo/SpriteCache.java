@@ -0,0 +1,114 @@
+package com.example.demo;
+
+import java.util.*;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.*;
+
+public final class SpriteCache {
+
+	private static final String ATLAS_PROPERTY = "sky.sprites.atlas";
+	private static final int MAX_CACHED_IMAGES = 16;
+	private static final int ATLAS_WIDTH = 2400;
+	private static final int ATLAS_PADDING = 1;
+	private static final String[] ACTOR_SPRITES = { "userplane.png", "userfire.png", "enemyplane.png",
+			"enemyFire.png", "bossplane.png", "fireball.png", "heart.png", "shield.png" };
+	private static final String[] SCREEN_SPRITES = { "youwin.png", "gameover.png" };
+	private static final Map<String, Sprite> cachedSprites = new LinkedHashMap<>(MAX_CACHED_IMAGES, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Sprite> eldest) {
+			return size() > MAX_CACHED_IMAGES;
+		}
+	};
+	private static final Map<String, Sprite> packedSprites = new HashMap<>();
+	private static boolean atlasEnabled = Boolean.getBoolean(ATLAS_PROPERTY);
+
+	private SpriteCache() {
+	}
+
+	public static synchronized void preload() {
+		if (atlasEnabled && packedSprites.isEmpty()) {
+			packAtlas();
+		}
+		for (String imageName : ACTOR_SPRITES) {
+			getSprite(imageName);
+			CollisionMask.preload(imageName);
+		}
+		for (String imageName : SCREEN_SPRITES) {
+			getSprite(imageName);
+		}
+	}
+
+	public static synchronized Sprite getSprite(String imageName) {
+		Sprite sprite = packedSprites.get(imageName);
+		if (sprite == null) {
+			sprite = cachedSprites.get(imageName);
+		}
+		if (sprite == null) {
+			sprite = new Sprite(loadImage(imageName), null);
+			cachedSprites.put(imageName, sprite);
+		}
+		return sprite;
+	}
+
+	public static synchronized void setAtlasEnabled(boolean enabled) {
+		atlasEnabled = enabled;
+		packedSprites.clear();
+		if (enabled) {
+			packAtlas();
+		}
+	}
+
+	public static synchronized boolean isAtlasEnabled() {
+		return atlasEnabled;
+	}
+
+	public static synchronized int getCachedImageCount() {
+		return cachedSprites.size();
+	}
+
+	private static Image loadImage(String imageName) {
+		return new Image(SpriteCache.class.getResource(SpriteMetrics.IMAGE_LOCATION + imageName).toExternalForm());
+	}
+
+	private static void packAtlas() {
+		Image[] images = new Image[ACTOR_SPRITES.length];
+		Integer[] packingOrder = new Integer[ACTOR_SPRITES.length];
+		for (int i = 0; i < ACTOR_SPRITES.length; i++) {
+			images[i] = loadImage(ACTOR_SPRITES[i]);
+			packingOrder[i] = i;
+		}
+		Arrays.sort(packingOrder, (a, b) -> Double.compare(images[b].getHeight(), images[a].getHeight()));
+
+		int[] xPositions = new int[images.length];
+		int[] yPositions = new int[images.length];
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (int index : packingOrder) {
+			int width = (int) images[index].getWidth();
+			int height = (int) images[index].getHeight();
+			if (shelfX + width > ATLAS_WIDTH) {
+				shelfX = 0;
+				shelfY += shelfHeight + ATLAS_PADDING;
+				shelfHeight = 0;
+			}
+			xPositions[index] = shelfX;
+			yPositions[index] = shelfY;
+			shelfX += width + ATLAS_PADDING;
+			shelfHeight = Math.max(shelfHeight, height);
+		}
+
+		WritableImage atlas = new WritableImage(ATLAS_WIDTH, shelfY + shelfHeight);
+		PixelWriter writer = atlas.getPixelWriter();
+		for (int i = 0; i < images.length; i++) {
+			int width = (int) images[i].getWidth();
+			int height = (int) images[i].getHeight();
+			writer.setPixels(xPositions[i], yPositions[i], width, height, images[i].getPixelReader(), 0, 0);
+			packedSprites.put(ACTOR_SPRITES[i],
+					new Sprite(atlas, new Rectangle2D(xPositions[i], yPositions[i], width, height)));
+			cachedSprites.remove(ACTOR_SPRITES[i]);
+		}
+	}
+
+}
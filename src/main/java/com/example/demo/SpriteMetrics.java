@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class SpriteMetrics {
+
+	static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private static final int PNG_WIDTH_OFFSET = 16;
+	private static final Map<String, Double> aspectRatios = new ConcurrentHashMap<>();
+
+	private SpriteMetrics() {
+	}
+
+	public static double getAspectRatio(String imageName) {
+		return aspectRatios.computeIfAbsent(imageName, SpriteMetrics::readAspectRatio);
+	}
+
+	private static double readAspectRatio(String imageName) {
+		try (InputStream stream = SpriteMetrics.class.getResourceAsStream(IMAGE_LOCATION + imageName)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Missing sprite: " + imageName);
+			}
+			DataInputStream header = new DataInputStream(stream);
+			header.skipNBytes(PNG_WIDTH_OFFSET);
+			int width = header.readInt();
+			int height = header.readInt();
+			return (double) width / height;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read sprite header: " + imageName, e);
+		}
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.demo;
+
+public interface TickExecutor extends AutoCloseable {
+
+	String SERIAL = "serial";
+	String FORK_JOIN = "forkjoin";
+
+	int getChunkCount(int size);
+
+	void forEachChunk(int size, ChunkTask task);
+
+	@Override
+	void close();
+
+	static TickExecutor create(String name, int threads, int chunkSize) {
+		switch (name) {
+			case SERIAL:
+				return new SerialTickExecutor();
+			case FORK_JOIN:
+				return new ForkJoinTickExecutor(threads, chunkSize);
+			default:
+				throw new IllegalArgumentException("Unknown tick executor: " + name);
+		}
+	}
+
+	@FunctionalInterface
+	interface ChunkTask {
+
+		void run(int chunk, int from, int to);
+
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.demo;
+
+public enum TickStage {
+
+	SPAWN,
+	UPDATE_ACTORS,
+	ENEMY_FIRE,
+	CULLING,
+	PENETRATION,
+	USER_PROJECTILE_COLLISIONS,
+	ENEMY_PROJECTILE_COLLISIONS,
+	PLANE_COLLISIONS,
+	REMOVAL,
+	KILL_COUNT,
+	GAME_OVER_CHECK
+
+}
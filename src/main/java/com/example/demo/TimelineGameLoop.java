@@ -0,0 +1,26 @@
+package com.example.demo;
+
+import javafx.animation.*;
+import javafx.util.Duration;
+
+public class TimelineGameLoop implements GameLoop {
+
+	private final Timeline timeline;
+
+	public TimelineGameLoop(int millisecondDelay, Runnable tick) {
+		this.timeline = new Timeline();
+		timeline.setCycleCount(Timeline.INDEFINITE);
+		timeline.getKeyFrames().add(new KeyFrame(Duration.millis(millisecondDelay), e -> tick.run()));
+	}
+
+	@Override
+	public void start() {
+		timeline.play();
+	}
+
+	@Override
+	public void stop() {
+		timeline.stop();
+	}
+
+}
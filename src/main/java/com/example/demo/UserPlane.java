@@ -37,8 +37,13 @@ public class UserPlane extends FighterPlane {
 	}
 	
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public boolean firesInCurrentFrame(double roll) {
+		return true;
+	}
+
+	@Override
+	public ActiveActorDestructible createProjectile() {
+		return UserProjectile.obtain(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	private boolean isMoving() {
@@ -61,8 +66,9 @@ public class UserPlane extends FighterPlane {
 		return numberOfKills;
 	}
 
-	public void incrementKillCount() {
-		numberOfKills++;
+	public void incrementKillCount(int kills) {
+		numberOfKills += kills;
+		getPlaneListener().killCountChanged(numberOfKills);
 	}
 
 }
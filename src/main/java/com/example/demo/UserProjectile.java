@@ -5,19 +5,39 @@ public class UserProjectile extends Projectile {
 	private static final String IMAGE_NAME = "userfire.png";
 	private static final int IMAGE_HEIGHT = 125;
 	private static final int HORIZONTAL_VELOCITY = 15;
+	private static final int POOL_CAPACITY = 64;
+	private static final ActorPool<UserProjectile> POOL = new ActorPool<>("UserProjectile", POOL_CAPACITY,
+			() -> new UserProjectile(0, 0));
 
 	public UserProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+		setVelocity(HORIZONTAL_VELOCITY, 0);
+	}
+
+	public static UserProjectile obtain(double initialXPos, double initialYPos) {
+		UserProjectile projectile = POOL.obtain();
+		projectile.reset(initialXPos, initialYPos);
+		return projectile;
 	}
 
 	@Override
 	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+		moveHorizontally(getVelocityX());
+	}
+
+	@Override
+	public boolean isKinematic() {
+		return true;
 	}
 	
 	@Override
 	public void updateActor() {
 		updatePosition();
 	}
+
+	@Override
+	public void recycle() {
+		POOL.release(this);
+	}
 	
 }
@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import java.io.*;
+
+// LEB128-style unsigned varints shared by the replay log and compiled level formats.
+final class VarInts {
+
+	private static final int PAYLOAD_BITS = 7;
+	private static final int PAYLOAD_MASK = 0x7F;
+	private static final int CONTINUATION = 0x80;
+
+	private VarInts() {
+	}
+
+	static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~PAYLOAD_MASK) != 0) {
+			out.writeByte((int) (value & PAYLOAD_MASK) | CONTINUATION);
+			value >>>= PAYLOAD_BITS;
+		}
+		out.writeByte((int) value);
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += PAYLOAD_BITS) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & PAYLOAD_MASK) << shift;
+			if ((b & CONTINUATION) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint");
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.demo;
+
+public class ViewportCuller {
+
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+
+	public ViewportCuller(double screenWidth, double screenHeight, double margin) {
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = screenWidth + margin;
+		this.maxY = screenHeight + margin;
+	}
+
+	public int cull(ActorStore actors) {
+		int culledActors = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			if (!actors.isDestroyed(i) && isOutsideViewport(actors, i)) {
+				actors.get(i).destroy();
+				culledActors++;
+			}
+		}
+		return culledActors;
+	}
+
+	private boolean isOutsideViewport(ActorStore actors, int slot) {
+		return actors.getMaxX(slot) < minX || actors.getMinX(slot) > maxX || actors.getMaxY(slot) < minY
+				|| actors.getMinY(slot) > maxY;
+	}
+
+}
@@ -1,16 +1,15 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 public class WinImage extends ImageView {
 	
-	private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png";
+	private static final String IMAGE_NAME = "youwin.png";
 	private static final int HEIGHT = 500;
 	private static final int WIDTH = 600;
 	
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		SpriteCache.getSprite(IMAGE_NAME).applyTo(this);
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
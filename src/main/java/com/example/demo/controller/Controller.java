@@ -1,50 +1,182 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.concurrent.*;
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.GameSettings;
+import com.example.demo.LevelCompleted;
+import com.example.demo.LevelLoadMetrics;
+import com.example.demo.LevelLost;
+import com.example.demo.LevelLoader;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelScene;
+import com.example.demo.ReplayRecorder;
+import com.example.demo.metrics.jfr.FlightRecording;
+import com.example.demo.metrics.jfr.LevelTransitionEvent;
 
-public class Controller implements Observer {
+public class Controller {
 
-	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne";
+	private static final String FIRST_LEVEL_NAME = "LevelOne";
+	private static final String LEVEL_LOADER_THREAD_NAME = "level-loader";
+	private static final System.Logger LOGGER = System.getLogger(Controller.class.getName());
+	private static final long BYTES_PER_KILOBYTE = 1024;
 	private final Stage stage;
+	private final ExecutorService levelLoader;
+	private final LevelLoadMetrics loadMetrics;
+	private LevelScene currentLevelScene;
+	private String preloadedLevelName;
+	private CompletableFuture<LevelParent> preloadedLevel;
 
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.levelLoader = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, LEVEL_LOADER_THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.loadMetrics = new LevelLoadMetrics();
 	}
 
-	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
+	public void launchGame() throws ReflectiveOperationException {
 
 			stage.show();
-			goToLevel(LEVEL_ONE_CLASS_NAME);
+			goToLevel(FIRST_LEVEL_NAME);
 	}
 
-	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-			Class<?> myClass = Class.forName(className);
-			Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-			LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-			myLevel.addObserver(this);
-			Scene scene = myLevel.initializeScene();
+	public LevelLoadMetrics getLoadMetrics() {
+		return loadMetrics;
+	}
+
+	public void shutdown() {
+		CompletableFuture<LevelParent> level = preloadedLevel;
+		preloadedLevelName = null;
+		preloadedLevel = null;
+		if (level != null) {
+			try {
+				level.join().dispose();
+			} catch (CompletionException | CancellationException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Preloaded level failed to load", e);
+			}
+		}
+		disposeCurrentLevel();
+		currentLevelScene = null;
+		levelLoader.shutdown();
+	}
+
+	private void goToLevel(String levelName) throws ReflectiveOperationException {
+			LevelTransitionEvent transitionEvent = null;
+			if (FlightRecording.isActive()) {
+				transitionEvent = new LevelTransitionEvent();
+				transitionEvent.begin();
+			}
+			long transitionStart = System.nanoTime();
+			boolean preloaded = levelName.equals(preloadedLevelName);
+			if (!preloaded) {
+				discardPreloadedLevel();
+			}
+			LevelParent myLevel = preloaded ? takePreloadedLevel()
+					: loadLevel(levelName, stage.getHeight(), stage.getWidth());
+			// Deferred so the finishing level's tick() and render run to completion before it is disposed.
+			myLevel.getEventBus().subscribe(LevelCompleted.class,
+					event -> Platform.runLater(() -> onLevelCompleted(event)));
+			myLevel.getEventBus().subscribe(LevelLost.class, event -> Platform.runLater(this::discardPreloadedLevel));
+			ReplayRecorder.recordIfEnabled(myLevel);
+			LevelScene levelScene = new LevelScene(myLevel);
+			Scene scene = levelScene.initializeScene();
+			String previousLevelName = disposeCurrentLevel();
+			currentLevelScene = levelScene;
 			stage.setScene(scene);
-			myLevel.startGame();
+			levelScene.startGame();
+			loadMetrics.recordStall(System.nanoTime() - transitionStart, preloaded);
+			if (transitionEvent != null) {
+				transitionEvent.fromLevel = previousLevelName;
+				transitionEvent.toLevel = myLevel.getLevelName();
+				transitionEvent.preloaded = preloaded;
+				transitionEvent.seed = myLevel.getSeed();
+				transitionEvent.commit();
+			}
+			reportTransition(previousLevelName, levelScene);
+			preloadLevel(myLevel.getNextLevelName());
+	}
+
+	private LevelParent loadLevel(String levelName, double screenHeight, double screenWidth)
+			throws ReflectiveOperationException {
+		long loadStart = System.nanoTime();
+		LevelParent level = LevelLoader.loadLevel(levelName, screenHeight, screenWidth, GameSettings.getSeed());
+		loadMetrics.recordLoad(System.nanoTime() - loadStart);
+		return level;
+	}
+
+	private void preloadLevel(String levelName) {
+		preloadedLevelName = levelName;
+		preloadedLevel = null;
+		if (levelName != null) {
+			// The stage belongs to the FX thread, so its size is read here rather than on the loader.
+			double screenHeight = stage.getHeight();
+			double screenWidth = stage.getWidth();
+			preloadedLevel = CompletableFuture.supplyAsync(() -> {
+				try {
+					return loadLevel(levelName, screenHeight, screenWidth);
+				} catch (ReflectiveOperationException e) {
+					throw new CompletionException(e);
+				}
+			}, levelLoader);
+		}
+	}
+
+	private LevelParent takePreloadedLevel() throws ReflectiveOperationException {
+		CompletableFuture<LevelParent> level = preloadedLevel;
+		preloadedLevelName = null;
+		preloadedLevel = null;
+		try {
+			return level.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof ReflectiveOperationException) {
+				throw (ReflectiveOperationException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	// The loader may still be building the level, so it is disposed on the FX thread once it is ready.
+	private void discardPreloadedLevel() {
+		CompletableFuture<LevelParent> level = preloadedLevel;
+		preloadedLevelName = null;
+		preloadedLevel = null;
+		if (level != null) {
+			level.thenAcceptAsync(LevelParent::dispose, Platform::runLater);
+		}
+	}
+
+	private String disposeCurrentLevel() {
+		if (currentLevelScene == null) {
+			return "none";
+		}
+		LevelParent level = currentLevelScene.getLevel();
+		String description = level.getLevelName() + " (" + level.getState() + ", "
+				+ currentLevelScene.getNodeCount() + " nodes released)";
+		currentLevelScene.dispose();
+		return description;
+	}
 
+	private void reportTransition(String previousLevelName, LevelScene levelScene) {
+		Runtime runtime = Runtime.getRuntime();
+		long usedHeapKilobytes = (runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_KILOBYTE;
+		LOGGER.log(System.Logger.Level.INFO,
+				"Level transition {0} -> {1} ({2} nodes, seed {6}), heap used {3} KB, load {4} ms, stall {5} ms",
+				previousLevelName, levelScene.getLevel().getLevelName(), levelScene.getNodeCount(),
+				usedHeapKilobytes, loadMetrics.getLastLoadMillis(), loadMetrics.getLastStallMillis(),
+				Long.toString(levelScene.getLevel().getSeed()));
 	}
 
-	@Override
-	public void update(Observable arg0, Object arg1) {
+	private void onLevelCompleted(LevelCompleted event) {
 		try {
-			goToLevel((String) arg1);
-		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
-				| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			goToLevel(event.getNextLevelName());
+		} catch (ReflectiveOperationException | RuntimeException e) {
 			Alert alert = new Alert(AlertType.ERROR);
 			alert.setContentText(e.getClass().toString());
 			alert.show();
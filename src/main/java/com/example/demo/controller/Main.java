@@ -1,9 +1,9 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.InvocationTargetException;
-
 import javafx.application.Application;
 import javafx.stage.Stage;
+import com.example.demo.SpriteCache;
+import com.example.demo.metrics.GameMetrics;
 
 public class Main extends Application {
 
@@ -13,16 +13,24 @@ public class Main extends Application {
 	private Controller myController;
 
 	@Override
-	public void start(Stage stage) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
-			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+	public void start(Stage stage) throws ReflectiveOperationException {
 		stage.setTitle(TITLE);
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
 		stage.setWidth(SCREEN_WIDTH);
+		SpriteCache.preload();
+		GameMetrics.register();
 		myController = new Controller(stage);
 		myController.launchGame();
 	}
 
+	@Override
+	public void stop() {
+		if (myController != null) {
+			myController.shutdown();
+		}
+	}
+
 	public static void main(String[] args) {
 		launch();
 	}
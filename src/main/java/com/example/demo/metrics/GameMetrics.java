@@ -0,0 +1,153 @@
+package com.example.demo.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.*;
+
+public class GameMetrics implements GameMetricsMBean {
+
+	public static final String OBJECT_NAME = "com.example.demo:type=GameMetrics";
+	private static final GameMetrics INSTANCE = new GameMetrics();
+	private static final int TICK_SAMPLES = 256;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final double NANOS_PER_MILLI = 1e6;
+	private static final double P50 = 0.50;
+	private static final double P99 = 0.99;
+	private final long[] tickNanos;
+	private int tickSampleCount;
+	private int tickCursor;
+	private volatile String levelName;
+	private volatile long tickCount;
+	private volatile int enemyUnits;
+	private volatile int userProjectiles;
+	private volatile int enemyProjectiles;
+	private volatile int killCount;
+	private volatile int rootChildCount;
+	private volatile double framesPerSecond;
+	private boolean fpsWindowStarted;
+	private boolean fpsWindowClosed;
+	private long fpsWindowStart;
+	private int framesInWindow;
+
+	private GameMetrics() {
+		this.tickNanos = new long[TICK_SAMPLES];
+		this.levelName = "none";
+	}
+
+	public static GameMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	public static synchronized void register() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(INSTANCE, name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+		}
+	}
+
+	public void recordTick(String levelName, long tickCount, long nanos, int enemyUnits, int userProjectiles,
+			int enemyProjectiles, int killCount) {
+		synchronized (tickNanos) {
+			tickNanos[tickCursor] = nanos;
+			tickCursor = (tickCursor + 1) % TICK_SAMPLES;
+			tickSampleCount = Math.min(tickSampleCount + 1, TICK_SAMPLES);
+		}
+		this.levelName = levelName;
+		this.tickCount = tickCount;
+		this.enemyUnits = enemyUnits;
+		this.userProjectiles = userProjectiles;
+		this.enemyProjectiles = enemyProjectiles;
+		this.killCount = killCount;
+	}
+
+	public void recordFrame(long nowNanos, int rootChildCount) {
+		this.rootChildCount = rootChildCount;
+		// nanoTime has an arbitrary origin, so the first window opens on the first frame rather than at zero, and
+		// until it closes the gauge shows the running rate instead of nothing.
+		if (!fpsWindowStarted) {
+			fpsWindowStarted = true;
+			fpsWindowStart = nowNanos;
+			return;
+		}
+		framesInWindow++;
+		long elapsed = nowNanos - fpsWindowStart;
+		if (elapsed >= NANOS_PER_SECOND) {
+			framesPerSecond = framesInWindow * (double) NANOS_PER_SECOND / elapsed;
+			fpsWindowStart = nowNanos;
+			framesInWindow = 0;
+			fpsWindowClosed = true;
+		} else if (!fpsWindowClosed && elapsed > 0) {
+			framesPerSecond = framesInWindow * (double) NANOS_PER_SECOND / elapsed;
+		}
+	}
+
+	@Override
+	public String getLevelName() {
+		return levelName;
+	}
+
+	@Override
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	@Override
+	public double getFramesPerSecond() {
+		return framesPerSecond;
+	}
+
+	@Override
+	public double getTickP50Millis() {
+		return getTickPercentileMillis(P50);
+	}
+
+	@Override
+	public double getTickP99Millis() {
+		return getTickPercentileMillis(P99);
+	}
+
+	@Override
+	public int getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	@Override
+	public int getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	@Override
+	public int getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	@Override
+	public int getRootChildCount() {
+		return rootChildCount;
+	}
+
+	@Override
+	public int getKillCount() {
+		return killCount;
+	}
+
+	private double getTickPercentileMillis(double percentile) {
+		long[] samples;
+		synchronized (tickNanos) {
+			samples = Arrays.copyOf(tickNanos, tickSampleCount);
+		}
+		if (samples.length == 0) {
+			return 0;
+		}
+		Arrays.sort(samples);
+		int index = (int) Math.ceil(percentile * samples.length) - 1;
+		return samples[Math.max(index, 0)] / NANOS_PER_MILLI;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.demo.metrics;
+
+public interface GameMetricsMBean {
+
+	String getLevelName();
+
+	long getTickCount();
+
+	double getFramesPerSecond();
+
+	double getTickP50Millis();
+
+	double getTickP99Millis();
+
+	int getEnemyUnits();
+
+	int getUserProjectiles();
+
+	int getEnemyProjectiles();
+
+	int getRootChildCount();
+
+	int getKillCount();
+
+}
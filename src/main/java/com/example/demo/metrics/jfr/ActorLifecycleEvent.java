@@ -0,0 +1,35 @@
+package com.example.demo.metrics.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.example.demo.ActorLifecycle")
+@Label("Actor Spawned or Destroyed")
+@Category("Sky Battle")
+public class ActorLifecycleEvent extends Event {
+
+	public static final String SPAWNED = "spawned";
+	public static final String DESTROYED = "destroyed";
+	private static final ActorLifecycleEvent PROBE = new ActorLifecycleEvent();
+
+	@Label("Actor Type")
+	public String actorType;
+
+	@Label("Action")
+	public String action;
+
+	@Label("Tick")
+	public long tick;
+
+	public static boolean isRecording() {
+		return PROBE.isEnabled();
+	}
+
+	public static void emit(String actorType, String action, long tick) {
+		ActorLifecycleEvent event = new ActorLifecycleEvent();
+		event.actorType = actorType;
+		event.action = action;
+		event.tick = tick;
+		event.commit();
+	}
+
+}
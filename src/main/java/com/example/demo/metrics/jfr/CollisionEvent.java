@@ -0,0 +1,26 @@
+package com.example.demo.metrics.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.example.demo.Collision")
+@Label("Collision Pass")
+@Category("Sky Battle")
+@Description("Collisions resolved by one collision pass of a tick")
+public class CollisionEvent extends Event {
+
+	private static final CollisionEvent PROBE = new CollisionEvent();
+
+	@Label("Pass")
+	public String pass;
+
+	@Label("Tick")
+	public long tick;
+
+	@Label("Collisions")
+	public int collisions;
+
+	public static boolean isRecording() {
+		return PROBE.isEnabled();
+	}
+
+}
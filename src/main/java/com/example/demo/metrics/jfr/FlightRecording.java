@@ -0,0 +1,15 @@
+package com.example.demo.metrics.jfr;
+
+import jdk.jfr.FlightRecorder;
+
+public final class FlightRecording {
+
+	private FlightRecording() {
+	}
+
+	// Loading the first event class bootstraps JFR, so callers check this before touching any event.
+	public static boolean isActive() {
+		return FlightRecorder.isInitialized();
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.example.demo.metrics.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category("Sky Battle")
+@Description("Switching the stage from one level to the next")
+public class LevelTransitionEvent extends Event {
+
+	@Label("From Level")
+	public String fromLevel;
+
+	@Label("To Level")
+	public String toLevel;
+
+	@Label("Preloaded")
+	public boolean preloaded;
+
+	@Label("Seed")
+	public long seed;
+
+}
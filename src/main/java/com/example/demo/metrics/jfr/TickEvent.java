@@ -0,0 +1,32 @@
+package com.example.demo.metrics.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.example.demo.Tick")
+@Label("Tick")
+@Category("Sky Battle")
+@Description("One simulation tick of the current level")
+public class TickEvent extends Event {
+
+	private static final TickEvent PROBE = new TickEvent();
+
+	@Label("Level")
+	public String level;
+
+	@Label("Tick")
+	public long tick;
+
+	@Label("Enemy Units")
+	public int enemyUnits;
+
+	@Label("User Projectiles")
+	public int userProjectiles;
+
+	@Label("Enemy Projectiles")
+	public int enemyProjectiles;
+
+	public static boolean isRecording() {
+		return PROBE.isEnabled();
+	}
+
+}
@@ -1,8 +1,11 @@
 module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.jfr;
+    requires java.management;
 
 
     opens com.example.demo to javafx.fxml;
     exports com.example.demo.controller;
+    exports com.example.demo.metrics;
 }
\ No newline at end of file